@@ -0,0 +1,122 @@
+package com.sourabh.task_manager.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Base for buses that send messages in batches: published messages are queued
+ * and a single thread drains the queue every batch interval, or as soon as a
+ * full batch is waiting. Subclasses only move a batch between nodes.
+ */
+@Slf4j
+public abstract class BatchingInvalidationBus implements InvalidationBus, DisposableBean {
+
+    private final ConcurrentLinkedQueue<InvalidationMessage> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final List<Consumer<List<InvalidationMessage>>> subscribers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService sender;
+    private final int maxBatchSize;
+    private final Counter batchesSent;
+    private final DistributionSummary batchSize;
+
+    protected BatchingInvalidationBus(String transport, InvalidationBusProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this.maxBatchSize = properties.getMaxBatchSize();
+        this.sender = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "invalidation-bus-" + transport);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchesSent = Counter.builder("cache.invalidation.batches")
+                .tag("transport", transport)
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("cache.invalidation.batch.size")
+                .tag("transport", transport)
+                .register(meterRegistry);
+
+        long intervalMillis = Math.max(1, properties.getBatchInterval().toMillis());
+        sender.scheduleWithFixedDelay(this::drain, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void publish(InvalidationMessage message) {
+        queue.add(message);
+        if (queued.incrementAndGet() >= maxBatchSize && flushRequested.compareAndSet(false, true)) {
+            sender.execute(this::drain);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<List<InvalidationMessage>> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Move one batch to the other nodes
+     * @param batch at most max-batch-size messages
+     */
+    protected abstract void send(List<InvalidationMessage> batch) throws Exception;
+
+    /**
+     * Hand a received batch to every subscriber
+     */
+    protected void deliver(List<InvalidationMessage> batch) {
+        for (Consumer<List<InvalidationMessage>> subscriber : subscribers) {
+            try {
+                subscriber.accept(batch);
+            } catch (RuntimeException e) {
+                log.warn("Invalidation subscriber failed", e);
+            }
+        }
+    }
+
+    private void drain() {
+        flushRequested.set(false);
+        List<InvalidationMessage> batch = new ArrayList<>(maxBatchSize);
+        InvalidationMessage message;
+        while ((message = queue.poll()) != null) {
+            queued.decrementAndGet();
+            batch.add(message);
+            if (batch.size() == maxBatchSize) {
+                sendQuietly(batch);
+                batch = new ArrayList<>(maxBatchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            sendQuietly(batch);
+        }
+    }
+
+    private void sendQuietly(List<InvalidationMessage> batch) {
+        try {
+            send(batch);
+            batchesSent.increment();
+            batchSize.record(batch.size());
+        } catch (Exception e) {
+            // Dropped: peers fall back on their cache TTLs
+            log.warn("Failed to send {} cache invalidations", batch.size(), e);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        sender.shutdown();
+        sender.awaitTermination(1, TimeUnit.SECONDS);
+        drain();
+    }
+}
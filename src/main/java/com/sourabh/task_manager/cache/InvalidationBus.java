@@ -0,0 +1,25 @@
+package com.sourabh.task_manager.cache;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Carries user cache invalidations between application nodes.
+ * Delivery is best effort; cache TTLs bound staleness if a message is lost.
+ */
+public interface InvalidationBus {
+
+    /**
+     * Queue a message for every other node; it may be sent as part of a batch
+     * @param message the invalidation
+     */
+    void publish(InvalidationMessage message);
+
+    /**
+     * Register a handler for message batches arriving from other nodes.
+     * A transport may also deliver this node's own messages back, so
+     * handlers should skip messages carrying their own origin.
+     * @param subscriber receives each delivered batch
+     */
+    void subscribe(Consumer<List<InvalidationMessage>> subscriber);
+}
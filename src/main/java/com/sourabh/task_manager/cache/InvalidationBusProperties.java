@@ -0,0 +1,51 @@
+package com.sourabh.task_manager.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for cross-node cache invalidation
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.cache.invalidation")
+public class InvalidationBusProperties {
+
+    /**
+     * "loopback" keeps invalidations inside this JVM, "udp" sends them to the peers below
+     */
+    private String transport = "loopback";
+
+    /**
+     * Longest a message waits to be batched with others
+     */
+    private Duration batchInterval = Duration.ofMillis(20);
+
+    /**
+     * Messages per batch; a full batch is sent without waiting
+     */
+    private int maxBatchSize = 200;
+
+    private final Udp udp = new Udp();
+
+    @Setter
+    @Getter
+    public static class Udp {
+
+        /**
+         * Local address and port to receive invalidations on
+         */
+        private String bindAddress = "127.0.0.1";
+        private int port = 9190;
+
+        /**
+         * host:port of every other node
+         */
+        private List<String> peers = new ArrayList<>();
+    }
+}
@@ -0,0 +1,15 @@
+package com.sourabh.task_manager.cache;
+
+/**
+ * Tells other nodes to drop their cached copies of one user
+ * @param origin ID of the node that published the message
+ * @param userId the user ID, or null if only the username is known
+ * @param username the username, or null if only the ID is known
+ * @param identityChanged whether the user was created, deleted or changed its
+ *                        username, email or name, so peers must also refresh
+ *                        their search index and availability filter
+ * @param publishedAtMillis wall-clock publish time, used to report delivery lag
+ */
+public record InvalidationMessage(long origin, Long userId, String username, boolean identityChanged,
+                                  long publishedAtMillis) {
+}
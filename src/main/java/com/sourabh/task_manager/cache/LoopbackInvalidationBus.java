@@ -0,0 +1,22 @@
+package com.sourabh.task_manager.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+
+/**
+ * In-JVM bus: batches are delivered straight back to this JVM's subscribers.
+ * Used on single-node deployments and in tests, where several invalidators
+ * with different node IDs can share one instance.
+ */
+public class LoopbackInvalidationBus extends BatchingInvalidationBus {
+
+    public LoopbackInvalidationBus(InvalidationBusProperties properties, MeterRegistry meterRegistry) {
+        super("loopback", properties, meterRegistry);
+    }
+
+    @Override
+    protected void send(List<InvalidationMessage> batch) {
+        deliver(batch);
+    }
+}
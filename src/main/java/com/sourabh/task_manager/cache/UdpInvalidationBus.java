@@ -0,0 +1,147 @@
+package com.sourabh.task_manager.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends each batch as one UDP datagram to every configured peer and delivers
+ * datagrams received on the bind port. UDP keeps publishing non-blocking and
+ * cheap; a lost datagram only leaves peers stale until their cache TTLs expire.
+ */
+@Slf4j
+public class UdpInvalidationBus extends BatchingInvalidationBus {
+
+    private static final short MAGIC = 0x5543;
+    private static final byte VERSION = 2;
+    private static final int MAX_DATAGRAM = 65_507;
+    // origin, user id and timestamp longs plus the identity and username flags
+    private static final int MIN_MESSAGE_BYTES = 3 * Long.BYTES + 2;
+
+    private final DatagramSocket socket;
+    private final List<InetSocketAddress> peers = new ArrayList<>();
+    private final Thread receiver;
+    private final Counter malformed;
+    private volatile boolean running = true;
+
+    public UdpInvalidationBus(InvalidationBusProperties properties, MeterRegistry meterRegistry) throws SocketException {
+        super("udp", properties, meterRegistry);
+        this.malformed = Counter.builder("cache.invalidation.malformed")
+                .description("Received datagrams that could not be decoded")
+                .register(meterRegistry);
+        InvalidationBusProperties.Udp udp = properties.getUdp();
+        this.socket = new DatagramSocket(new InetSocketAddress(udp.getBindAddress(), udp.getPort()));
+        for (String peer : udp.getPeers()) {
+            int separator = peer.lastIndexOf(':');
+            peers.add(new InetSocketAddress(peer.substring(0, separator), Integer.parseInt(peer.substring(separator + 1))));
+        }
+
+        this.receiver = new Thread(this::receive, "invalidation-bus-udp-receiver");
+        receiver.setDaemon(true);
+        receiver.start();
+        log.info("UDP invalidation bus listening on {}, peers {}", socket.getLocalSocketAddress(), peers);
+    }
+
+    /**
+     * @return the port actually bound, useful when configured with port 0
+     */
+    public int getLocalPort() {
+        return socket.getLocalPort();
+    }
+
+    @Override
+    protected void send(List<InvalidationMessage> batch) throws IOException {
+        byte[] payload = encode(batch);
+        if (payload.length > MAX_DATAGRAM && batch.size() > 1) {
+            send(batch.subList(0, batch.size() / 2));
+            send(batch.subList(batch.size() / 2, batch.size()));
+            return;
+        }
+        for (InetSocketAddress peer : peers) {
+            socket.send(new DatagramPacket(payload, payload.length, peer));
+        }
+    }
+
+    private void receive() {
+        byte[] buffer = new byte[MAX_DATAGRAM];
+        while (running) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("Failed to receive invalidation datagram", e);
+                }
+                continue;
+            }
+            // One bad datagram must never end the loop: drop it and keep listening
+            try {
+                deliver(decode(packet.getData(), packet.getLength()));
+            } catch (IOException | RuntimeException e) {
+                malformed.increment();
+                log.warn("Dropped malformed invalidation datagram from {}: {}", packet.getSocketAddress(), e.toString());
+            }
+        }
+    }
+
+    static byte[] encode(List<InvalidationMessage> batch) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + batch.size() * 48);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeShort(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt(batch.size());
+        for (InvalidationMessage message : batch) {
+            out.writeLong(message.origin());
+            out.writeLong(message.userId() == null ? -1 : message.userId());
+            out.writeLong(message.publishedAtMillis());
+            out.writeBoolean(message.identityChanged());
+            out.writeBoolean(message.username() != null);
+            if (message.username() != null) {
+                out.writeUTF(message.username());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    static List<InvalidationMessage> decode(byte[] data, int length) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 0, length));
+        if (in.readShort() != MAGIC || in.readByte() != VERSION) {
+            throw new IOException("Not an invalidation batch");
+        }
+        int count = in.readInt();
+        if (count < 0 || count > in.available() / MIN_MESSAGE_BYTES) {
+            throw new IOException("Invalid message count " + count + " for " + length + " bytes");
+        }
+        List<InvalidationMessage> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long origin = in.readLong();
+            long userId = in.readLong();
+            long publishedAt = in.readLong();
+            boolean identityChanged = in.readBoolean();
+            String username = in.readBoolean() ? in.readUTF() : null;
+            batch.add(new InvalidationMessage(origin, userId < 0 ? null : userId, username, identityChanged,
+                    publishedAt));
+        }
+        return batch;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        super.destroy();
+        running = false;
+        socket.close();
+        receiver.join(1_000);
+    }
+}
@@ -0,0 +1,34 @@
+package com.sourabh.task_manager.cache;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint for the user profile cache
+ * GET /actuator/usercache, DELETE /actuator/usercache to clear it,
+ * both restricted to admins by the security configuration
+ */
+@Component
+@Endpoint(id = "usercache")
+public class UserCacheEndpoint {
+
+    private final UserResponseCache userResponseCache;
+
+    public UserCacheEndpoint(UserResponseCache userResponseCache) {
+        this.userResponseCache = userResponseCache;
+    }
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        return userResponseCache.describe();
+    }
+
+    @DeleteOperation
+    public void clear() {
+        userResponseCache.invalidateAll();
+    }
+}
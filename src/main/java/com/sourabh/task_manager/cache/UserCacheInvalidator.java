@@ -0,0 +1,117 @@
+package com.sourabh.task_manager.cache;
+
+import com.sourabh.task_manager.security.UserDetailsCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Single entry point for dropping cached user data. Evicts this node's
+ * {@link UserResponseCache} and {@link UserDetailsCache} entries, then
+ * publishes the invalidation so every other node does the same. Identity
+ * changes are also handed to the {@link #subscribeIdentityChanges listeners}
+ * on the other nodes, which keep their in-memory search structures current.
+ */
+@Component
+public class UserCacheInvalidator {
+
+    private final long nodeId = new SecureRandom().nextLong();
+    private final InvalidationBus invalidationBus;
+    private final UserResponseCache userResponseCache;
+    private final UserDetailsCache userDetailsCache;
+    private final List<Consumer<List<Long>>> identityListeners = new CopyOnWriteArrayList<>();
+    private final Counter published;
+    private final Counter received;
+    private final Timer deliveryLag;
+
+    public UserCacheInvalidator(InvalidationBus invalidationBus,
+                                UserResponseCache userResponseCache,
+                                UserDetailsCache userDetailsCache,
+                                MeterRegistry meterRegistry) {
+        this.invalidationBus = invalidationBus;
+        this.userResponseCache = userResponseCache;
+        this.userDetailsCache = userDetailsCache;
+        this.published = Counter.builder("cache.invalidation.published")
+                .register(meterRegistry);
+        this.received = Counter.builder("cache.invalidation.received")
+                .description("Invalidations applied on behalf of other nodes")
+                .register(meterRegistry);
+        // Measured with wall clocks of two nodes, so includes any clock skew between them
+        this.deliveryLag = Timer.builder("cache.invalidation.lag")
+                .description("Time from publish on one node to eviction on another")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        invalidationBus.subscribe(this::onBatch);
+    }
+
+    /**
+     * Drop a user's cached data on every node. Call after the change has committed.
+     * @param userId the user ID, or null for auth details only
+     * @param username the username, or null if unknown
+     */
+    public void invalidate(Long userId, String username) {
+        publish(userId, username, false);
+    }
+
+    /**
+     * Like {@link #invalidate}, for a user that was created, deleted or changed its
+     * username, email or name. This node's search structures are updated by the
+     * caller; other nodes reload the user and update theirs.
+     * @param userId the user ID
+     * @param username the username, or null if unknown
+     */
+    public void invalidateIdentity(Long userId, String username) {
+        publish(userId, username, true);
+    }
+
+    /**
+     * @param listener called with the IDs of users whose identity changed on another node
+     */
+    public void subscribeIdentityChanges(Consumer<List<Long>> listener) {
+        identityListeners.add(listener);
+    }
+
+    private void publish(Long userId, String username, boolean identityChanged) {
+        evictLocally(userId, username);
+        invalidationBus.publish(new InvalidationMessage(nodeId, userId, username, identityChanged,
+                System.currentTimeMillis()));
+        published.increment();
+    }
+
+    private void onBatch(List<InvalidationMessage> batch) {
+        long now = System.currentTimeMillis();
+        List<Long> identityChanges = new ArrayList<>();
+        for (InvalidationMessage message : batch) {
+            if (message.origin() == nodeId) {
+                continue;
+            }
+            evictLocally(message.userId(), message.username());
+            if (message.identityChanged() && message.userId() != null) {
+                identityChanges.add(message.userId());
+            }
+            received.increment();
+            deliveryLag.record(Duration.ofMillis(Math.max(0, now - message.publishedAtMillis())));
+        }
+        if (!identityChanges.isEmpty()) {
+            identityListeners.forEach(listener -> listener.accept(identityChanges));
+        }
+    }
+
+    private void evictLocally(Long userId, String username) {
+        if (userId != null) {
+            userResponseCache.invalidate(userId);
+        }
+        if (username != null) {
+            userDetailsCache.evict(username);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.sourabh.task_manager.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of {@link UserResponseDTO} keyed by user ID, with
+ * username and email aliases pointing at the same entry. Size-bounded by
+ * Caffeine (W-TinyLFU); hit/miss/eviction counts are published as the
+ * "userResponses" cache metrics.
+ */
+@Component
+public class UserResponseCache {
+
+    private static final Duration TOMBSTONE_TTL = Duration.ofMinutes(1);
+
+    private final Cache<Long, UserResponseDTO> byId;
+    private final Cache<String, Long> idByUsername;
+    private final Cache<String, Long> idByEmail;
+    /**
+     * Sequence bumped by every invalidation. A load that overlaps an invalidation
+     * of the same user is not cached, since it may have read the row before the
+     * change committed; loads of other users are unaffected.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+    /** User ID to the sequence of its latest invalidation, kept long enough to outlive any load */
+    private final Cache<Long, Long> tombstones;
+    /** Sequence of the latest clear-all or forgotten tombstone; loads started before it are not cached */
+    private final AtomicLong tombstoneFloor = new AtomicLong();
+
+    public UserResponseCache(UserResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        // Aliases are tiny; stale ones are detected on lookup
+        this.idByUsername = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+        this.idByEmail = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+        this.tombstones = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(TOMBSTONE_TTL)
+                // Synchronous, so a tombstone is never gone before the floor covers it
+                .evictionListener((Long id, Long sequence, RemovalCause cause) -> raiseFloor(sequence))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "userResponses");
+    }
+
+    /**
+     * @param id the user ID
+     * @param loader loads the user on a miss
+     * @return a private copy of the user, or empty if it does not exist
+     */
+    public Optional<UserResponseDTO> getById(Long id, Supplier<Optional<UserResponseDTO>> loader) {
+        UserResponseDTO cached = byId.getIfPresent(id);
+        return cached != null ? Optional.of(copy(cached)) : load(loader);
+    }
+
+    /**
+     * Look up without loading, for callers that cannot block on a loader
+     * @param id the user ID
+     * @return a private copy of the cached user, or empty on a miss
+     */
+    public Optional<UserResponseDTO> getIfPresent(Long id) {
+        return Optional.ofNullable(byId.getIfPresent(id)).map(UserResponseCache::copy);
+    }
+
+    /**
+     * @param username the username
+     * @param loader loads the user on a miss
+     * @return a private copy of the user, or empty if it does not exist
+     */
+    public Optional<UserResponseDTO> getByUsername(String username, Supplier<Optional<UserResponseDTO>> loader) {
+        return getByAlias(idByUsername, username, UserResponseDTO::getUsername, loader);
+    }
+
+    /**
+     * Look up without loading
+     * @param username the username
+     * @return a private copy of the cached user, or empty on a miss
+     */
+    public Optional<UserResponseDTO> getIfPresentByUsername(String username) {
+        return Optional.ofNullable(peekAlias(idByUsername, username, UserResponseDTO::getUsername))
+                .map(UserResponseCache::copy);
+    }
+
+    /**
+     * @param email the email
+     * @param loader loads the user on a miss
+     * @return a private copy of the user, or empty if it does not exist
+     */
+    public Optional<UserResponseDTO> getByEmail(String email, Supplier<Optional<UserResponseDTO>> loader) {
+        return getByAlias(idByEmail, email, UserResponseDTO::getEmail, loader);
+    }
+
+    /**
+     * Drop a user after any change to it
+     * @param id the user ID
+     */
+    public void invalidate(Long id) {
+        tombstones.put(id, invalidations.incrementAndGet());
+        UserResponseDTO removed = byId.asMap().remove(id);
+        if (removed != null) {
+            idByUsername.invalidate(removed.getUsername());
+            idByEmail.invalidate(removed.getEmail());
+        }
+    }
+
+    public void invalidateAll(Collection<Long> ids) {
+        ids.forEach(this::invalidate);
+    }
+
+    public void invalidateAll() {
+        raiseFloor(invalidations.incrementAndGet());
+        byId.invalidateAll();
+        idByUsername.invalidateAll();
+        idByEmail.invalidateAll();
+    }
+
+    /**
+     * Current size and statistics, as shown by the usercache actuator endpoint
+     */
+    public Map<String, Object> describe() {
+        CacheStats stats = byId.stats();
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("size", byId.estimatedSize());
+        description.put("usernameAliases", idByUsername.estimatedSize());
+        description.put("emailAliases", idByEmail.estimatedSize());
+        description.put("requests", stats.requestCount());
+        description.put("hits", stats.hitCount());
+        description.put("misses", stats.missCount());
+        description.put("hitRatio", stats.hitRate());
+        description.put("evictions", stats.evictionCount());
+        description.put("invalidations", invalidations.get());
+        return description;
+    }
+
+    private Optional<UserResponseDTO> getByAlias(Cache<String, Long> aliases, String key,
+                                                 Function<UserResponseDTO, String> field,
+                                                 Supplier<Optional<UserResponseDTO>> loader) {
+        UserResponseDTO cached = peekAlias(aliases, key, field);
+        return cached != null ? Optional.of(copy(cached)) : load(loader);
+    }
+
+    private UserResponseDTO peekAlias(Cache<String, Long> aliases, String key,
+                                      Function<UserResponseDTO, String> field) {
+        Long id = aliases.getIfPresent(key);
+        if (id == null) {
+            return null;
+        }
+        UserResponseDTO cached = byId.getIfPresent(id);
+        // The alias may outlive a rename; only trust it if the entry still carries the key
+        return cached != null && key.equals(field.apply(cached)) ? cached : null;
+    }
+
+    private Optional<UserResponseDTO> load(Supplier<Optional<UserResponseDTO>> loader) {
+        long before = invalidations.get();
+        Optional<UserResponseDTO> loaded = loader.get();
+        loaded.ifPresent(user -> {
+            if (invalidatedSince(user.getId(), before)) {
+                return;
+            }
+            UserResponseDTO snapshot = copy(user);
+            byId.put(snapshot.getId(), snapshot);
+            idByUsername.put(snapshot.getUsername(), snapshot.getId());
+            idByEmail.put(snapshot.getEmail(), snapshot.getId());
+            // An invalidation between the check and the put may have missed the new entry
+            if (invalidatedSince(snapshot.getId(), before)) {
+                invalidate(snapshot.getId());
+            }
+        });
+        return loaded;
+    }
+
+    private boolean invalidatedSince(Long id, long sequence) {
+        if (tombstoneFloor.get() > sequence) {
+            return true;
+        }
+        Long invalidated = tombstones.getIfPresent(id);
+        return invalidated != null && invalidated > sequence;
+    }
+
+    private void raiseFloor(long sequence) {
+        tombstoneFloor.accumulateAndGet(sequence, Math::max);
+    }
+
+    private static UserResponseDTO copy(UserResponseDTO user) {
+        return new UserResponseDTO(user.getId(), user.getUsername(), user.getEmail(), user.getFirstName(),
+                user.getLastName(), user.getPhoneNumber(), user.getRole(), user.getIsActive(),
+                user.getIsEmailVerified(), user.getCreatedAt(), user.getUpdatedAt(), user.getLastLogin());
+    }
+}
@@ -0,0 +1,26 @@
+package com.sourabh.task_manager.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Sizing for the user profile cache behind the get-by-id/username/email lookups
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.cache.user-response")
+public class UserResponseCacheProperties {
+
+    /**
+     * Users kept; beyond this Caffeine evicts by W-TinyLFU (frequency and recency)
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Upper bound on staleness should an invalidation be missed
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,29 @@
+package com.sourabh.task_manager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the /api/users bulk endpoints
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.users.bulk")
+public class BulkOperationProperties {
+
+    /**
+     * Largest number of users in one bulk registration, or of users selected (by IDs or filter) in one bulk update
+     */
+    private int maxRows = 1000;
+
+    /**
+     * Rows sent to the database per JDBC batch
+     */
+    private int jdbcBatchSize = 500;
+
+    /**
+     * Users changed per UPDATE statement (and transaction) by bulk status and role updates
+     */
+    private int updateChunkSize = 1000;
+}
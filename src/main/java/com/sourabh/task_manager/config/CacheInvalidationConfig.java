@@ -0,0 +1,32 @@
+package com.sourabh.task_manager.config;
+
+import com.sourabh.task_manager.cache.InvalidationBus;
+import com.sourabh.task_manager.cache.InvalidationBusProperties;
+import com.sourabh.task_manager.cache.LoopbackInvalidationBus;
+import com.sourabh.task_manager.cache.UdpInvalidationBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.SocketException;
+
+/**
+ * Picks the cross-node cache invalidation transport (app.cache.invalidation.transport)
+ */
+@Configuration
+public class CacheInvalidationConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "loopback", matchIfMissing = true)
+    public InvalidationBus loopbackInvalidationBus(InvalidationBusProperties properties, MeterRegistry meterRegistry) {
+        return new LoopbackInvalidationBus(properties, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "udp")
+    public InvalidationBus udpInvalidationBus(InvalidationBusProperties properties,
+                                              MeterRegistry meterRegistry) throws SocketException {
+        return new UdpInvalidationBus(properties, meterRegistry);
+    }
+}
@@ -1,26 +1,66 @@
 package com.sourabh.task_manager.config;
+
+import com.sourabh.task_manager.datasource.ReadWriteRoutingDataSource;
+import com.sourabh.task_manager.datasource.ReadYourWrites;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
 import javax.sql.DataSource;
-import org.springframework.context.annotation.*;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
+/**
+ * Hikari pools for the primary (spring.datasource.*) and, when
+ * app.datasource.replica.jdbc-url is set, a replica that serves read-only
+ * transactions. Without a replica everything uses the primary pool. Either
+ * way a connection is only borrowed once a transaction issues its first statement.
+ * DataSourceProperties is bound here because Boot's DataSourceAutoConfiguration
+ * backs off once the R2DBC ConnectionFactory is on the context.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
 public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
     @Bean
-    @Profile("dev")
-    public DataSource devDataSource() {
-        DriverManagerDataSource ds = new DriverManagerDataSource();
-        ds.setUrl("jdbc:postgresql://localhost:5432/dev_db");
-        ds.setUsername("devuser");
-        ds.setPassword("devpass");
-        return ds;
+    @ConditionalOnProperty(prefix = "app.datasource.replica", name = "jdbc-url")
+    @ConfigurationProperties(prefix = "app.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        // Start even when the replica is down and give up quickly, reads then fall back to the primary
+        dataSource.setInitializationFailTimeout(-1);
+        dataSource.setConnectionTimeout(2_000);
+        return dataSource;
     }
 
     @Bean
-    @Profile("prod")
-    public DataSource prodDataSource() {
-        DriverManagerDataSource ds = new DriverManagerDataSource();
-        ds.setUrl("jdbc:postgresql://prod-db:5432/prod_db");
-        ds.setUsername("produser");
-        ds.setPassword("prodpass");
-        return ds;
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replica,
+                                 ReadYourWrites readYourWrites,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        DataSource replicaPool = replica.getIfAvailable();
+        DataSource target = replicaPool == null ? primary
+                : new ReadWriteRoutingDataSource(primary, replicaPool, readYourWrites, meterRegistry::getObject);
+        // Transactions answered from a cache then never take a pooled connection
+        return new LazyConnectionDataSourceProxy(target);
     }
 }
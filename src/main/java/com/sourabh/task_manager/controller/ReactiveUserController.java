@@ -0,0 +1,119 @@
+package com.sourabh.task_manager.controller;
+
+import com.sourabh.task_manager.dto.response.PageResponseDTO;
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import com.sourabh.task_manager.enums.UserRole;
+import com.sourabh.task_manager.service.ReactiveUserService;
+import com.sourabh.task_manager.util.ApiResponse;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking read API mirroring the {@link UserController} reads.
+ * Handlers return a Mono, so the servlet thread is released while the
+ * query runs and the response is written once the R2DBC driver completes.
+ */
+@RestController
+@RequestMapping("/api/reactive/users")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ReactiveUserController {
+
+    private final ReactiveUserService reactiveUserService;
+
+    public ReactiveUserController(ReactiveUserService reactiveUserService) {
+        this.reactiveUserService = reactiveUserService;
+    }
+
+    /**
+     * Get user by ID
+     * GET /api/reactive/users/{id}
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<UserResponseDTO>>> getUserById(@PathVariable Long id) {
+        return reactiveUserService.getUserById(id)
+                .map(user -> ResponseEntity.ok(new ApiResponse<>(true, "User retrieved successfully", user)));
+    }
+
+    /**
+     * Get user by username
+     * GET /api/reactive/users/username/{username}
+     */
+    @GetMapping("/username/{username}")
+    public Mono<ResponseEntity<ApiResponse<UserResponseDTO>>> getUserByUsername(@PathVariable String username) {
+        return reactiveUserService.getUserByUsername(username)
+                .map(user -> ResponseEntity.ok(new ApiResponse<>(true, "User retrieved successfully", user)));
+    }
+
+    /**
+     * Get all users with pagination
+     * GET /api/reactive/users?page=0&size=10&sortBy=createdAt&sortDir=desc
+     */
+    @GetMapping
+    public Mono<ResponseEntity<ApiResponse<PageResponseDTO<UserResponseDTO>>>> getAllUsers(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir) {
+
+        Sort sort = sortDir.equalsIgnoreCase("desc") ?
+                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+
+        return reactiveUserService.getAllUsers(PageRequest.of(page, size, sort))
+                .map(users -> ResponseEntity.ok(new ApiResponse<>(true, "Users retrieved successfully",
+                        PageResponseDTO.of(users))));
+    }
+
+    /**
+     * Get all active users
+     * GET /api/reactive/users/active?basic=false
+     */
+    @GetMapping("/active")
+    public Mono<ResponseEntity<ApiResponse<List<UserResponseDTO>>>> getActiveUsers(
+            @RequestParam(defaultValue = "false") boolean basic) {
+        return reactiveUserService.getActiveUsers(basic)
+                .map(users -> ResponseEntity.ok(
+                        new ApiResponse<>(true, "Active users retrieved successfully", users)));
+    }
+
+    /**
+     * Get users by role
+     * GET /api/reactive/users/role/{role}?basic=false
+     */
+    @GetMapping("/role/{role}")
+    public Mono<ResponseEntity<ApiResponse<List<UserResponseDTO>>>> getUsersByRole(
+            @PathVariable UserRole role,
+            @RequestParam(defaultValue = "false") boolean basic) {
+        return reactiveUserService.getUsersByRole(role, basic)
+                .map(users -> ResponseEntity.ok(new ApiResponse<>(true, "Users retrieved successfully", users)));
+    }
+
+    /**
+     * Search users
+     * GET /api/reactive/users/search?q=searchTerm&page=0&size=10
+     */
+    @GetMapping("/search")
+    public Mono<ResponseEntity<ApiResponse<PageResponseDTO<UserResponseDTO>>>> searchUsers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return reactiveUserService.searchUsers(q, PageRequest.of(page, size))
+                .map(users -> ResponseEntity.ok(new ApiResponse<>(true, "Search completed successfully",
+                        PageResponseDTO.of(users))));
+    }
+
+    /**
+     * Get inactive users
+     * GET /api/reactive/users/inactive?days=30
+     */
+    @GetMapping("/inactive")
+    public Mono<ResponseEntity<ApiResponse<List<UserResponseDTO>>>> getInactiveUsers(
+            @RequestParam(defaultValue = "30") int days) {
+        return reactiveUserService.getInactiveUsers(days)
+                .map(users -> ResponseEntity.ok(new ApiResponse<>(true, "Inactive users retrieved", users)));
+    }
+}
@@ -1,10 +1,10 @@
 package com.sourabh.task_manager.controller;
 
 import com.sourabh.task_manager.entity.UserAuthEntity;
+import com.sourabh.task_manager.security.PasswordHashingExecutor;
 import com.sourabh.task_manager.service.UserAuthEntityService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -13,7 +13,7 @@ public class UserAuthController {
     @Autowired
     UserAuthEntityService userAuthEntityService;
     @Autowired
-    PasswordEncoder passwordEncoder;
+    PasswordHashingExecutor passwordHashingExecutor;
 
     @PostMapping("/register")
     public ResponseEntity<String> registerUser(@RequestBody UserAuthEntity userAuthDetails){
@@ -26,14 +26,15 @@ public class UserAuthController {
             return ResponseEntity.badRequest().body("Password cannot be empty");
         }
 
-        // Set default role if not provided
-        if (userAuthDetails.getRole() == null || userAuthDetails.getRole().trim().isEmpty()) {
-            userAuthDetails.setRole("ROLE_USER");
-        }
+        // Self-registration never grants more than ROLE_USER, whatever the body says,
+        // and always creates an account rather than merging over an existing ID
+        userAuthDetails.setId(null);
+        userAuthDetails.setRole("ROLE_USER");
+
+        // Hash the password before storing; a saturated hashing pool surfaces as 503
+        userAuthDetails.setPassword(passwordHashingExecutor.encode(userAuthDetails.getPassword()));
 
         try {
-            // Hash the password before storing
-            userAuthDetails.setPassword(passwordEncoder.encode(userAuthDetails.getPassword()));
             // Save user
             userAuthEntityService.save(userAuthDetails);
             return ResponseEntity.ok("User registered successfully");
@@ -1,25 +1,45 @@
 package com.sourabh.task_manager.controller;
 
+import com.sourabh.task_manager.dto.request.BulkUserUpdateDTO;
+import com.sourabh.task_manager.dto.request.UserFieldSet;
 import com.sourabh.task_manager.dto.request.UserLoginDTO;
 import com.sourabh.task_manager.dto.request.UserRegistrationDTO;
 import com.sourabh.task_manager.dto.request.UserUpdateDTO;
+import com.sourabh.task_manager.dto.response.BulkRegistrationResponseDTO;
+import com.sourabh.task_manager.dto.response.BulkUpdateResponseDTO;
+import com.sourabh.task_manager.dto.response.CursorPageResponseDTO;
+import com.sourabh.task_manager.dto.response.PageResponseDTO;
 import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import com.sourabh.task_manager.enums.ExportFormat;
 import com.sourabh.task_manager.enums.UserRole;
+import com.sourabh.task_manager.security.JwtTokenService;
 import com.sourabh.task_manager.util.ApiResponse;
+import com.sourabh.task_manager.util.InvalidRequestException;
+import com.sourabh.task_manager.util.ResourceNotFoundException;
+import com.sourabh.task_manager.util.UserETags;
+import com.sourabh.task_manager.service.UserBulkService;
+import com.sourabh.task_manager.service.UserExportService;
+import com.sourabh.task_manager.service.UserFieldsService;
 import com.sourabh.task_manager.service.UserService;
+import com.sourabh.task_manager.service.UserStatsService;
+import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * REST Controller for User management operations
@@ -27,14 +47,29 @@ import java.util.Map;
  */
 @RestController
 @RequestMapping("/api/users")
-@CrossOrigin(origins = "*", maxAge = 3600)
+@CrossOrigin(origins = "*", maxAge = 3600, exposedHeaders = HttpHeaders.ETAG)
 public class UserController {
 
     private final UserService userService;
+    private final UserBulkService userBulkService;
+    private final UserExportService userExportService;
+    private final UserStatsService userStatsService;
+    private final JwtTokenService jwtTokenService;
+    private final UserFieldsService userFieldsService;
 
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService,
+                          UserBulkService userBulkService,
+                          UserExportService userExportService,
+                          UserStatsService userStatsService,
+                          JwtTokenService jwtTokenService,
+                          UserFieldsService userFieldsService) {
         this.userService = userService;
+        this.userBulkService = userBulkService;
+        this.userExportService = userExportService;
+        this.userStatsService = userStatsService;
+        this.jwtTokenService = jwtTokenService;
+        this.userFieldsService = userFieldsService;
     }
 
     /**
@@ -50,20 +85,30 @@ public class UserController {
     }
 
     /**
-     * User login validation
+     * Register many users in one request; each row gets its own result
+     * POST /api/users/register/bulk
+     */
+    @PostMapping("/register/bulk")
+    public ResponseEntity<ApiResponse<BulkRegistrationResponseDTO>> registerUsers(
+            @RequestBody List<UserRegistrationDTO> registrations) {
+        BulkRegistrationResponseDTO result = userBulkService.registerUsers(registrations);
+        String message = result.getCreated() + " users registered, " + result.getRejected() + " rejected";
+        return ResponseEntity.ok(new ApiResponse<>(true, message, result));
+    }
+
+    /**
+     * User login, issues an access/refresh token pair
      * POST /api/users/login
      */
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<Map<String, Object>>> loginUser(
             @Valid @RequestBody UserLoginDTO loginDTO) {
-        boolean isValid = userService.validateLogin(loginDTO);
+        Optional<UserResponseDTO> user = userService.authenticate(loginDTO);
 
-        if (isValid) {
-            // In a real application, you would generate JWT token here
-            Map<String, Object> response = new HashMap<>();
+        if (user.isPresent()) {
+            Map<String, Object> response = new HashMap<>(tokensFor(user.get()));
             response.put("authenticated", true);
             response.put("message", "Login successful");
-            // response.put("token", jwtToken); // Add JWT token generation
 
             return ResponseEntity.ok(
                     new ApiResponse<>(true, "Login successful", response));
@@ -73,69 +118,204 @@ public class UserController {
         }
     }
 
+    /**
+     * Exchange a refresh token for a new token pair. Refresh tokens are single use:
+     * the presented one is redeemed, and presenting it again answers 401.
+     * POST /api/users/refresh
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> refreshToken(
+            @RequestBody Map<String, String> refreshRequest) {
+        String refreshToken = refreshRequest.get("refreshToken");
+        Optional<Claims> claims = refreshToken == null ? Optional.empty()
+                : jwtTokenService.redeemRefreshToken(refreshToken);
+
+        if (claims.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new ApiResponse<>(false, "Invalid refresh token", null));
+        }
+
+        // Refresh is rare, so re-read the user to pick up deletion, deactivation and role changes
+        UserResponseDTO user;
+        try {
+            user = userService.getUserByUsername(claims.get().getSubject());
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new ApiResponse<>(false, "Invalid refresh token", null));
+        }
+        if (Boolean.FALSE.equals(user.getIsActive())) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new ApiResponse<>(false, "User is not active", null));
+        }
+
+        return ResponseEntity.ok(
+                new ApiResponse<>(true, "Token refreshed", tokensFor(user)));
+    }
+
     /**
      * Get user by ID
      * GET /api/users/{id}
+     * Conditional: If-None-Match with the returned ETag answers 304 while the user is unchanged
+     * Sparse: GET /api/users/{id}?fields=id,username,fullName (no ETag)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<UserResponseDTO>> getUserById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<?>> getUserById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (fields != null) {
+            Map<String, Object> user = userFieldsService.getUserById(id, UserFieldSet.parse(fields));
+            return ResponseEntity.ok()
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(new ApiResponse<>(true, "User retrieved successfully", user));
+        }
+        if (ifNoneMatch != null) {
+            Optional<String> etag = userService.getUserETag(id);
+            if (etag.isPresent() && UserETags.matches(ifNoneMatch, etag.get())) {
+                return notModified(etag.get());
+            }
+        }
         UserResponseDTO user = userService.getUserById(id);
-        return ResponseEntity.ok(
-                new ApiResponse<>(true, "User retrieved successfully", user));
+        return ResponseEntity.ok()
+                .eTag(UserETags.of(user))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(new ApiResponse<>(true, "User retrieved successfully", user));
     }
 
     /**
      * Get user by username
      * GET /api/users/username/{username}
+     * Conditional and sparse like GET /api/users/{id}
      */
     @GetMapping("/username/{username}")
-    public ResponseEntity<ApiResponse<UserResponseDTO>> getUserByUsername(
-            @PathVariable String username) {
+    public ResponseEntity<ApiResponse<?>> getUserByUsername(
+            @PathVariable String username,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (fields != null) {
+            Map<String, Object> user = userFieldsService.getUserByUsername(username, UserFieldSet.parse(fields));
+            return ResponseEntity.ok()
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(new ApiResponse<>(true, "User retrieved successfully", user));
+        }
+        if (ifNoneMatch != null) {
+            Optional<String> etag = userService.getUserETagByUsername(username);
+            if (etag.isPresent() && UserETags.matches(ifNoneMatch, etag.get())) {
+                return notModified(etag.get());
+            }
+        }
         UserResponseDTO user = userService.getUserByUsername(username);
-        return ResponseEntity.ok(
-                new ApiResponse<>(true, "User retrieved successfully", user));
+        return ResponseEntity.ok()
+                .eTag(UserETags.of(user))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(new ApiResponse<>(true, "User retrieved successfully", user));
     }
 
     /**
      * Get all users with pagination
-     * GET /api/users?page=0&size=10&sort=createdAt,desc
+     * GET /api/users?page=0&size=10&sortBy=createdAt&sortDir=desc
+     * Cursor mode: GET /api/users?cursor=true&size=10 then GET /api/users?after={nextCursor}
+     * Sparse (offset mode only): GET /api/users?fields=id,username,fullName
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<UserResponseDTO>>> getAllUsers(
+    public ResponseEntity<ApiResponse<?>> getAllUsers(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean cursor,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) String fields) {
+
+        if (cursor || after != null) {
+            requireNoFields(fields);
+            CursorPageResponseDTO<UserResponseDTO> users =
+                    userService.getAllUsersByCursor(after, size, sortBy, sortDir, includeTotal);
+            return ResponseEntity.ok(
+                    new ApiResponse<>(true, "Users retrieved successfully", users));
+        }
 
         Sort sort = sortDir.equalsIgnoreCase("desc") ?
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<UserResponseDTO> users = userService.getAllUsers(pageable);
+        if (fields != null) {
+            PageResponseDTO<Map<String, Object>> users =
+                    PageResponseDTO.of(userFieldsService.getAllUsers(pageable, UserFieldSet.parse(fields)));
+            return ResponseEntity.ok(
+                    new ApiResponse<>(true, "Users retrieved successfully", users));
+        }
+        PageResponseDTO<UserResponseDTO> users = PageResponseDTO.of(userService.getAllUsers(pageable));
 
         return ResponseEntity.ok(
                 new ApiResponse<>(true, "Users retrieved successfully", users));
     }
 
+    /**
+     * Export all users as a stream
+     * GET /api/users/export?format=ndjson|csv&gzip=false
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(name = "format", defaultValue = "ndjson") String formatName,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        ExportFormat format = ExportFormat.parse(formatName);
+
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                // syncFlush so periodic flushes reach the client instead of sitting in the deflater
+                GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, 8192, true);
+                userExportService.exportUsers(format, gzipStream);
+                gzipStream.finish();
+            } else {
+                userExportService.exportUsers(format, outputStream);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"users." + format.getFileExtension() + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     /**
      * Get all active users
-     * GET /api/users/active
+     * GET /api/users/active?basic=false
+     * Sparse: GET /api/users/active?fields=id,username,fullName (takes precedence over basic)
      */
     @GetMapping("/active")
-    public ResponseEntity<ApiResponse<List<UserResponseDTO>>> getActiveUsers() {
-        List<UserResponseDTO> users = userService.getActiveUsers();
+    public ResponseEntity<ApiResponse<?>> getActiveUsers(
+            @RequestParam(defaultValue = "false") boolean basic,
+            @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(new ApiResponse<>(true, "Active users retrieved successfully",
+                    userFieldsService.getActiveUsers(UserFieldSet.parse(fields))));
+        }
+        List<UserResponseDTO> users = basic ? userService.getActiveUsersBasic() : userService.getActiveUsers();
         return ResponseEntity.ok(
                 new ApiResponse<>(true, "Active users retrieved successfully", users));
     }
 
     /**
      * Get users by role
-     * GET /api/users/role/{role}
+     * GET /api/users/role/{role}?basic=false
+     * Sparse: GET /api/users/role/{role}?fields=id,username,fullName (takes precedence over basic)
      */
     @GetMapping("/role/{role}")
-    public ResponseEntity<ApiResponse<List<UserResponseDTO>>> getUsersByRole(
-            @PathVariable UserRole role) {
-        List<UserResponseDTO> users = userService.getUsersByRole(role);
+    public ResponseEntity<ApiResponse<?>> getUsersByRole(
+            @PathVariable UserRole role,
+            @RequestParam(defaultValue = "false") boolean basic,
+            @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(new ApiResponse<>(true, "Users retrieved successfully",
+                    userFieldsService.getUsersByRole(role, UserFieldSet.parse(fields))));
+        }
+        List<UserResponseDTO> users = basic ? userService.getUsersByRoleBasic(role) : userService.getUsersByRole(role);
         return ResponseEntity.ok(
                 new ApiResponse<>(true, "Users retrieved successfully", users));
     }
@@ -143,15 +323,35 @@ public class UserController {
     /**
      * Search users
      * GET /api/users/search?q=searchTerm&page=0&size=10
+     * Cursor mode: GET /api/users/search?q=searchTerm&cursor=true then &after={nextCursor}
+     * Sparse (offset mode only): GET /api/users/search?q=searchTerm&fields=id,username,fullName
      */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<Page<UserResponseDTO>>> searchUsers(
+    public ResponseEntity<ApiResponse<?>> searchUsers(
             @RequestParam String q,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean cursor,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) String fields) {
+
+        if (cursor || after != null) {
+            requireNoFields(fields);
+            CursorPageResponseDTO<UserResponseDTO> users =
+                    userService.searchUsersByCursor(q, after, size, includeTotal);
+            return ResponseEntity.ok(
+                    new ApiResponse<>(true, "Search completed successfully", users));
+        }
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<UserResponseDTO> users = userService.searchUsers(q, pageable);
+        if (fields != null) {
+            PageResponseDTO<Map<String, Object>> users =
+                    PageResponseDTO.of(userFieldsService.searchUsers(q, pageable, UserFieldSet.parse(fields)));
+            return ResponseEntity.ok(
+                    new ApiResponse<>(true, "Search completed successfully", users));
+        }
+        PageResponseDTO<UserResponseDTO> users = PageResponseDTO.of(userService.searchUsers(q, pageable));
 
         return ResponseEntity.ok(
                 new ApiResponse<>(true, "Search completed successfully", users));
@@ -214,6 +414,50 @@ public class UserController {
                 new ApiResponse<>(true, "Email verified successfully", user));
     }
 
+    /**
+     * Activate users by ID list or filter
+     * PATCH /api/users/bulk/activate
+     */
+    @PatchMapping("/bulk/activate")
+    public ResponseEntity<ApiResponse<BulkUpdateResponseDTO>> activateUsers(@RequestBody BulkUserUpdateDTO request) {
+        BulkUpdateResponseDTO result = userBulkService.activateUsers(request);
+        return ResponseEntity.ok(
+                new ApiResponse<>(true, result.getUpdated() + " users activated", result));
+    }
+
+    /**
+     * Deactivate users by ID list or filter
+     * PATCH /api/users/bulk/deactivate
+     */
+    @PatchMapping("/bulk/deactivate")
+    public ResponseEntity<ApiResponse<BulkUpdateResponseDTO>> deactivateUsers(@RequestBody BulkUserUpdateDTO request) {
+        BulkUpdateResponseDTO result = userBulkService.deactivateUsers(request);
+        return ResponseEntity.ok(
+                new ApiResponse<>(true, result.getUpdated() + " users deactivated", result));
+    }
+
+    /**
+     * Verify emails of users by ID list or filter
+     * PATCH /api/users/bulk/verify-email
+     */
+    @PatchMapping("/bulk/verify-email")
+    public ResponseEntity<ApiResponse<BulkUpdateResponseDTO>> verifyEmails(@RequestBody BulkUserUpdateDTO request) {
+        BulkUpdateResponseDTO result = userBulkService.verifyEmails(request);
+        return ResponseEntity.ok(
+                new ApiResponse<>(true, result.getUpdated() + " emails verified", result));
+    }
+
+    /**
+     * Update role of users by ID list or filter
+     * PATCH /api/users/bulk/role
+     */
+    @PatchMapping("/bulk/role")
+    public ResponseEntity<ApiResponse<BulkUpdateResponseDTO>> updateUserRoles(@RequestBody BulkUserUpdateDTO request) {
+        BulkUpdateResponseDTO result = userBulkService.updateUserRoles(request);
+        return ResponseEntity.ok(
+                new ApiResponse<>(true, result.getUpdated() + " user roles updated", result));
+    }
+
     /**
      * Update user role
      * PATCH /api/users/{id}/role
@@ -280,17 +524,12 @@ public class UserController {
     }
 
     /**
-     * Get user statistics
+     * Get user statistics, served from in-memory counters
      * GET /api/users/stats
      */
     @GetMapping("/stats")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getUserStats() {
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("totalUsers", userService.getTotalUserCount());
-        stats.put("activeUsers", userService.getActiveUserCount());
-        stats.put("adminUsers", userService.getUserCountByRole(UserRole.ADMIN));
-        stats.put("managerUsers", userService.getUserCountByRole(UserRole.MANAGER));
-        stats.put("regularUsers", userService.getUserCountByRole(UserRole.USER));
+        Map<String, Object> stats = userStatsService.getUserStats();
 
         return ResponseEntity.ok(
                 new ApiResponse<>(true, "User statistics retrieved", stats));
@@ -299,12 +538,33 @@ public class UserController {
     /**
      * Get inactive users
      * GET /api/users/inactive?days=30
+     * Sparse: GET /api/users/inactive?days=30&fields=id,username,lastLogin
      */
     @GetMapping("/inactive")
-    public ResponseEntity<ApiResponse<List<UserResponseDTO>>> getInactiveUsers(
-            @RequestParam(defaultValue = "30") int days) {
+    public ResponseEntity<ApiResponse<?>> getInactiveUsers(
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(new ApiResponse<>(true, "Inactive users retrieved",
+                    userFieldsService.getInactiveUsers(days, UserFieldSet.parse(fields))));
+        }
         List<UserResponseDTO> users = userService.getInactiveUsers(days);
         return ResponseEntity.ok(
                 new ApiResponse<>(true, "Inactive users retrieved", users));
     }
+
+    private Map<String, Object> tokensFor(UserResponseDTO user) {
+        return jwtTokenService.issueTokens(user.getUsername(), List.of("ROLE_" + user.getRole().name()));
+    }
+
+    private static void requireNoFields(String fields) {
+        if (fields != null) {
+            throw new InvalidRequestException("fields is only supported with page-based pagination");
+        }
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        // A 304 must repeat the Vary of the 200 it stands in for
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+    }
 }
@@ -0,0 +1,119 @@
+package com.sourabh.task_manager.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Caps how many threads may hold or wait on a pool connection at once. With
+ * virtual threads nothing else bounds request concurrency, so without this
+ * thousands of callers would pile into the pool's own wait queue; here they
+ * queue fairly on a semaphore and give up after the pool's connection timeout.
+ */
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource {
+
+    private final String name;
+    private final int limit;
+    private final Semaphore permits;
+    private final long timeoutMillis;
+    private final Supplier<MeterRegistry> meterRegistry;
+    private volatile boolean metersRegistered;
+
+    /**
+     * @param name the pool name, used as a metric tag
+     * @param limit permits, normally the pool's maximum size
+     * @param timeoutMillis how long a caller waits for a permit
+     * @param meterRegistry resolved lazily, the registry is usually not ready when the DataSource is
+     */
+    public ConcurrencyLimitingDataSource(DataSource targetDataSource, String name, int limit,
+                                         long timeoutMillis, Supplier<MeterRegistry> meterRegistry) {
+        super(targetDataSource);
+        this.name = name;
+        this.limit = limit;
+        this.permits = new Semaphore(limit, true);
+        this.timeoutMillis = timeoutMillis;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releaseOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releaseOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        registerMeters();
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        name + " - no connection permit available after " + timeoutMillis + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException(name + " - interrupted waiting for a connection permit", e);
+        }
+    }
+
+    private Connection releaseOnClose(Connection connection) {
+        boolean[] released = {false};
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && !released[0]) {
+                        released[0] = true;
+                        permits.release();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    private void registerMeters() {
+        if (metersRegistered) {
+            return;
+        }
+        synchronized (this) {
+            if (!metersRegistered) {
+                MeterRegistry registry = meterRegistry.get();
+                Gauge.builder("datasource.permits.waiting", permits, Semaphore::getQueueLength)
+                        .description("Threads queued for a database connection permit")
+                        .tag("pool", name)
+                        .register(registry);
+                Gauge.builder("datasource.permits.in_use", permits, p -> limit - p.availablePermits())
+                        .tag("pool", name)
+                        .register(registry);
+                metersRegistered = true;
+            }
+        }
+    }
+}
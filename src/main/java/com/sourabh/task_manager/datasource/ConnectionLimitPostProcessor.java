@@ -0,0 +1,53 @@
+package com.sourabh.task_manager.datasource;
+
+import com.sourabh.task_manager.metrics.InstrumentedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+/**
+ * When requests run on virtual threads (spring.threads.virtual.enabled on JDK 21+),
+ * puts a {@link ConcurrencyLimitingDataSource} sized to the pool in front of
+ * every Hikari pool. Runs after the instrumentation wrapper, so time spent
+ * waiting for a permit does not count as connection hold time.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ConnectionLimitPostProcessor implements BeanPostProcessor, Ordered {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ConnectionLimitPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (!(bean instanceof InstrumentedDataSource dataSource)) {
+            return bean;
+        }
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return bean;
+            }
+            HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+            return new ConcurrencyLimitingDataSource(dataSource, pool.getPoolName(), pool.getMaximumPoolSize(),
+                    pool.getConnectionTimeout(), meterRegistry::getObject);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot inspect DataSource " + beanName, e);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
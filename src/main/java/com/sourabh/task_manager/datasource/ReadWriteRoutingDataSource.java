@@ -0,0 +1,81 @@
+package com.sourabh.task_manager.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else to the
+ * primary. Must sit behind a LazyConnectionDataSourceProxy: the read-only flag
+ * is only set once the transaction has begun, after the transaction manager
+ * asked for its connection.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReadYourWrites readYourWrites;
+    private final Supplier<MeterRegistry> meterRegistry;
+    private volatile Counter fallbacks;
+
+    /**
+     * @param meterRegistry resolved lazily, the registry is usually not ready when the DataSource is
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      ReadYourWrites readYourWrites, Supplier<MeterRegistry> meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWrites = readYourWrites;
+        this.meterRegistry = meterRegistry;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !readYourWrites.isPinned()) {
+            return Route.REPLICA;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWrites.recordWrite();
+        }
+        return Route.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        if (target != replica) {
+            return target.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            // A stale or unreachable replica should cost latency, not availability
+            fallbackCounter().increment();
+            log.warn("Replica unavailable, reading from the primary: {}", e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    private Counter fallbackCounter() {
+        if (fallbacks == null) {
+            fallbacks = Counter.builder("datasource.replica.fallbacks")
+                    .description("Read-only connections served by the primary because the replica failed")
+                    .register(meterRegistry.get());
+        }
+        return fallbacks;
+    }
+}
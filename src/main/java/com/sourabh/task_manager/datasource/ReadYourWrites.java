@@ -0,0 +1,70 @@
+package com.sourabh.task_manager.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tracks which users recently wrote to the primary, so that their reads do not
+ * hit a replica that has not caught up yet. A request is pinned to the primary
+ * when its user wrote within the window, and from its own first write onwards.
+ */
+@Component
+public class ReadYourWrites {
+
+    private final ThreadLocal<Scope> scope = new ThreadLocal<>();
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWrites(ReadYourWritesProperties properties) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumTrackedUsers())
+                .expireAfterWrite(properties.getWindow())
+                .build();
+    }
+
+    /**
+     * Start tracking the current thread's request
+     * @param username the authenticated user, or null when anonymous
+     */
+    public void begin(String username) {
+        Scope current = new Scope();
+        current.pinned = username != null && recentWriters.getIfPresent(username) != null;
+        scope.set(current);
+    }
+
+    /**
+     * Stop tracking the current thread's request, remembering the user if it wrote
+     * @param username the authenticated user, which may differ from begin() after a login
+     */
+    public void end(String username) {
+        Scope current = scope.get();
+        scope.remove();
+        if (current != null && current.wrote && username != null) {
+            recentWriters.put(username, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Called when a connection to the primary is borrowed for writing; a no-op outside a request
+     */
+    public void recordWrite() {
+        Scope current = scope.get();
+        if (current != null) {
+            current.wrote = true;
+            current.pinned = true;
+        }
+    }
+
+    /**
+     * @return whether read-only work on this thread must still go to the primary
+     */
+    public boolean isPinned() {
+        Scope current = scope.get();
+        return current != null && current.pinned;
+    }
+
+    private static final class Scope {
+        private boolean pinned;
+        private boolean wrote;
+    }
+}
@@ -0,0 +1,26 @@
+package com.sourabh.task_manager.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * How long a user's read-only transactions stay on the primary after they changed data
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.datasource.read-your-writes")
+public class ReadYourWritesProperties {
+
+    /**
+     * Should comfortably exceed the replica's usual replication lag
+     */
+    private Duration window = Duration.ofSeconds(5);
+
+    /**
+     * Recent writers remembered at once; beyond this the oldest are dropped early
+     */
+    private long maximumTrackedUsers = 100_000;
+}
@@ -0,0 +1,25 @@
+package com.sourabh.task_manager.dto.request;
+
+import com.sourabh.task_manager.enums.UserRole;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO for bulk status and role updates. Targets either the given IDs or
+ * every user matching the filter, never both.
+ */
+@Setter
+@Getter
+public class BulkUserUpdateDTO {
+
+    private List<Long> ids;
+    private UserFilterDTO filter;
+    /**
+     * New role, only used by the bulk role update
+     */
+    private UserRole role;
+
+    public BulkUserUpdateDTO() {}
+}
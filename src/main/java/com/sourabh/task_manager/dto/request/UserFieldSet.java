@@ -0,0 +1,117 @@
+package com.sourabh.task_manager.dto.request;
+
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import com.sourabh.task_manager.util.InvalidRequestException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The UserResponseDTO properties a client asked for with ?fields=, and the
+ * entity attributes that have to be selected to produce them
+ */
+public final class UserFieldSet {
+
+    /**
+     * Entity attributes that back a response property, by property, in UserResponseDTO order
+     */
+    private static final Map<String, Function<UserResponseDTO, Object>> ATTRIBUTES = new LinkedHashMap<>();
+
+    static {
+        ATTRIBUTES.put("id", UserResponseDTO::getId);
+        ATTRIBUTES.put("username", UserResponseDTO::getUsername);
+        ATTRIBUTES.put("email", UserResponseDTO::getEmail);
+        ATTRIBUTES.put("firstName", UserResponseDTO::getFirstName);
+        ATTRIBUTES.put("lastName", UserResponseDTO::getLastName);
+        ATTRIBUTES.put("phoneNumber", UserResponseDTO::getPhoneNumber);
+        ATTRIBUTES.put("role", UserResponseDTO::getRole);
+        ATTRIBUTES.put("isActive", UserResponseDTO::getIsActive);
+        ATTRIBUTES.put("isEmailVerified", UserResponseDTO::getIsEmailVerified);
+        ATTRIBUTES.put("createdAt", UserResponseDTO::getCreatedAt);
+        ATTRIBUTES.put("updatedAt", UserResponseDTO::getUpdatedAt);
+        ATTRIBUTES.put("lastLogin", UserResponseDTO::getLastLogin);
+    }
+
+    private static final String FULL_NAME = "fullName";
+
+    private final List<String> fields;
+    private final List<String> attributes;
+
+    private UserFieldSet(List<String> fields, List<String> attributes) {
+        this.fields = fields;
+        this.attributes = attributes;
+    }
+
+    /**
+     * @param fields comma-separated UserResponseDTO property names, e.g. "id,username,fullName"
+     * @return the selection, in UserResponseDTO property order
+     * @throws InvalidRequestException if the list is empty or names an unknown property
+     */
+    public static UserFieldSet parse(String fields) {
+        Set<String> requested = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!ATTRIBUTES.containsKey(name) && !FULL_NAME.equals(name)) {
+                throw new InvalidRequestException("Unknown field: " + name + ", expected any of "
+                        + String.join(", ", ATTRIBUTES.keySet()) + ", " + FULL_NAME);
+            }
+            requested.add(name);
+        }
+        if (requested.isEmpty()) {
+            throw new InvalidRequestException("fields must name at least one property");
+        }
+
+        List<String> ordered = new ArrayList<>();
+        // The ID is always selected, it is needed to order search hits and costs nothing to read
+        Set<String> attributes = new LinkedHashSet<>(List.of("id"));
+        for (String property : ATTRIBUTES.keySet()) {
+            if (requested.contains(property)) {
+                ordered.add(property);
+                attributes.add(property);
+            }
+        }
+        if (requested.contains(FULL_NAME)) {
+            ordered.add(FULL_NAME);
+            attributes.add("firstName");
+            attributes.add("lastName");
+        }
+        return new UserFieldSet(List.copyOf(ordered), List.copyOf(attributes));
+    }
+
+    /**
+     * @return the entity attributes to select, always starting with id
+     */
+    public List<String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Build the response for one row
+     * @param attributeValue reads a selected attribute of the row
+     * @return the requested properties only
+     */
+    public Map<String, Object> toResponse(Function<String, Object> attributeValue) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        for (String field : fields) {
+            response.put(field, FULL_NAME.equals(field)
+                    ? attributeValue.apply("firstName") + " " + attributeValue.apply("lastName")
+                    : attributeValue.apply(field));
+        }
+        return response;
+    }
+
+    /**
+     * Narrow a full user, e.g. a cache hit, to the requested properties
+     */
+    public Map<String, Object> toResponse(UserResponseDTO user) {
+        return toResponse(attribute -> ATTRIBUTES.get(attribute).apply(user));
+    }
+}
@@ -0,0 +1,29 @@
+package com.sourabh.task_manager.dto.request;
+
+import com.sourabh.task_manager.enums.UserRole;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO selecting users by attribute; every field that is set must match
+ */
+@Setter
+@Getter
+public class UserFilterDTO {
+
+    private UserRole role;
+    private Boolean isActive;
+    private Boolean isEmailVerified;
+    /**
+     * Users who never logged in or last logged in before this time
+     */
+    private LocalDateTime lastLoginBefore;
+
+    public UserFilterDTO() {}
+
+    public boolean isEmpty() {
+        return role == null && isActive == null && isEmailVerified == null && lastLoginBefore == null;
+    }
+}
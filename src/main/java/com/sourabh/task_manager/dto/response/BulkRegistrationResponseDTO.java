@@ -0,0 +1,27 @@
+package com.sourabh.task_manager.dto.response;
+
+import com.sourabh.task_manager.enums.BulkRowStatus;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO for the result of a bulk registration, one entry per request row
+ */
+@Setter
+@Getter
+public class BulkRegistrationResponseDTO {
+
+    private int created;
+    private int rejected;
+    private List<BulkRowResultDTO> results;
+
+    public BulkRegistrationResponseDTO() {}
+
+    public BulkRegistrationResponseDTO(List<BulkRowResultDTO> results) {
+        this.results = results;
+        this.created = (int) results.stream().filter(r -> r.getStatus() == BulkRowStatus.CREATED).count();
+        this.rejected = results.size() - created;
+    }
+}
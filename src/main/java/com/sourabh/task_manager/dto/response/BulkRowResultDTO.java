@@ -0,0 +1,37 @@
+package com.sourabh.task_manager.dto.response;
+
+import com.sourabh.task_manager.enums.BulkRowStatus;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * DTO for the outcome of one row in a bulk registration
+ */
+@Setter
+@Getter
+public class BulkRowResultDTO {
+
+    /**
+     * Position of the row in the request
+     */
+    private int index;
+    private String username;
+    private BulkRowStatus status;
+    /**
+     * Why the row was rejected, null when created
+     */
+    private String message;
+    /**
+     * The created user, null when rejected
+     */
+    private UserResponseDTO user;
+
+    public BulkRowResultDTO() {}
+
+    public BulkRowResultDTO(int index, String username, BulkRowStatus status, String message) {
+        this.index = index;
+        this.username = username;
+        this.status = status;
+        this.message = message;
+    }
+}
@@ -0,0 +1,28 @@
+package com.sourabh.task_manager.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * DTO for the result of a bulk status or role update
+ */
+@Setter
+@Getter
+public class BulkUpdateResponseDTO {
+
+    /**
+     * Users selected by the IDs or filter
+     */
+    private long matched;
+    /**
+     * Users actually changed; users already in the target state are skipped
+     */
+    private long updated;
+
+    public BulkUpdateResponseDTO() {}
+
+    public BulkUpdateResponseDTO(long matched, long updated) {
+        this.matched = matched;
+        this.updated = updated;
+    }
+}
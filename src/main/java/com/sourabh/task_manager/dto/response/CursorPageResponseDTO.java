@@ -0,0 +1,36 @@
+package com.sourabh.task_manager.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO for one page of a cursor (keyset) paginated listing
+ */
+@Setter
+@Getter
+public class CursorPageResponseDTO<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    /**
+     * Pass as "after" to fetch the next page, null on the last page
+     */
+    private String nextCursor;
+    /**
+     * Only populated when the total was requested
+     */
+    private Long totalElements;
+
+    public CursorPageResponseDTO() {}
+
+    public CursorPageResponseDTO(List<T> content, boolean hasNext, String nextCursor, Long totalElements) {
+        this.content = content;
+        this.size = content.size();
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+        this.totalElements = totalElements;
+    }
+}
@@ -0,0 +1,46 @@
+package com.sourabh.task_manager.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * DTO for one page of an offset paginated listing. A stable, flat replacement
+ * for serializing Spring's Page, which also emits its pageable and sort state.
+ */
+@Setter
+@Getter
+public class PageResponseDTO<T> {
+
+    private List<T> content;
+    /**
+     * Zero-based page number
+     */
+    private int page;
+    private int size;
+    private boolean hasNext;
+    /**
+     * Null when the total was not counted
+     */
+    private Long totalElements;
+    private Integer totalPages;
+
+    public PageResponseDTO() {}
+
+    public PageResponseDTO(List<T> content, int page, int size, boolean hasNext, Long totalElements) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.totalElements = totalElements;
+        this.totalPages = totalElements == null ? null
+                : size == 0 ? 1 : (int) Math.ceil((double) totalElements / size);
+    }
+
+    public static <T> PageResponseDTO<T> of(Page<T> page) {
+        return new PageResponseDTO<>(page.getContent(), page.getNumber(), page.getSize(),
+                page.hasNext(), page.getTotalElements());
+    }
+}
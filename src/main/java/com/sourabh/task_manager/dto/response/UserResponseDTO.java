@@ -41,6 +41,34 @@ public class UserResponseDTO {
         this.isActive = isActive;
     }
 
+    /**
+     * Full constructor, used by JPQL constructor-expression projections
+     */
+    public UserResponseDTO(Long id, String username, String email, String firstName, String lastName,
+                           String phoneNumber, UserRole role, Boolean isActive, Boolean isEmailVerified,
+                           LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime lastLogin) {
+        this(id, username, email, firstName, lastName, role, isActive);
+        this.phoneNumber = phoneNumber;
+        this.isEmailVerified = isEmailVerified;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.lastLogin = lastLogin;
+    }
+
+    /**
+     * Basic constructor with the same fields as UserMapper#toBasicResponseDTO,
+     * used by JPQL constructor-expression projections
+     */
+    public UserResponseDTO(Long id, String username, String firstName, String lastName,
+                           UserRole role, Boolean isActive) {
+        this.id = id;
+        this.username = username;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.role = role;
+        this.isActive = isActive;
+    }
+
     // Utility method
     public String getFullName() {
         return firstName + " " + lastName;
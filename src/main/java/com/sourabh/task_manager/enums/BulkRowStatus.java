@@ -0,0 +1,10 @@
+package com.sourabh.task_manager.enums;
+
+/**
+ * Enum representing the outcome of one row in a bulk operation
+ */
+public enum BulkRowStatus {
+    CREATED,
+    INVALID,
+    DUPLICATE
+}
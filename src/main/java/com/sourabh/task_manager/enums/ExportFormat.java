@@ -0,0 +1,43 @@
+package com.sourabh.task_manager.enums;
+
+import com.sourabh.task_manager.util.InvalidRequestException;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Enum representing the supported bulk export formats
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    ExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * @param value the format name in any case, as in ?format=csv
+     * @return the matching format
+     */
+    public static ExportFormat parse(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("format must be one of "
+                    + Arrays.toString(values()).toLowerCase(Locale.ROOT), e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.sourabh.task_manager.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.sourabh.task_manager.util.ApiResponse;
+
+import java.io.IOException;
+
+/**
+ * Writes the {@link ApiResponse} envelope with pre-encoded property names;
+ * the payload goes through the serializer registered for its runtime type.
+ */
+@SuppressWarnings("rawtypes")
+public class ApiResponseSerializer extends StdSerializer<ApiResponse> {
+
+    private static final SerializableString SUCCESS = new SerializedString("success");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString DATA = new SerializedString("data");
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+
+    public ApiResponseSerializer() {
+        super(ApiResponse.class);
+    }
+
+    @Override
+    public void serialize(ApiResponse response, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(response);
+        gen.writeFieldName(SUCCESS);
+        gen.writeBoolean(response.isSuccess());
+        gen.writeFieldName(MESSAGE);
+        if (response.getMessage() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(response.getMessage());
+        }
+        gen.writeFieldName(DATA);
+        Object data = response.getData();
+        if (data == null) {
+            gen.writeNull();
+        } else {
+            provider.findTypedValueSerializer(data.getClass(), true, null).serialize(data, gen, provider);
+        }
+        gen.writeFieldName(TIMESTAMP);
+        if (response.getTimestamp() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(response.getTimestamp());
+        }
+        gen.writeEndObject();
+    }
+}
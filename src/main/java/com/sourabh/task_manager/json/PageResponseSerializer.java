@@ -0,0 +1,80 @@
+package com.sourabh.task_manager.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.sourabh.task_manager.dto.response.PageResponseDTO;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes {@link PageResponseDTO} with pre-encoded property names. The element
+ * serializer is looked up once per page rather than once per element.
+ */
+@SuppressWarnings("rawtypes")
+public class PageResponseSerializer extends StdSerializer<PageResponseDTO> {
+
+    private static final SerializableString CONTENT = new SerializedString("content");
+    private static final SerializableString PAGE = new SerializedString("page");
+    private static final SerializableString SIZE = new SerializedString("size");
+    private static final SerializableString HAS_NEXT = new SerializedString("hasNext");
+    private static final SerializableString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializableString TOTAL_PAGES = new SerializedString("totalPages");
+
+    public PageResponseSerializer() {
+        super(PageResponseDTO.class);
+    }
+
+    @Override
+    public void serialize(PageResponseDTO page, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(page);
+        gen.writeFieldName(CONTENT);
+        writeContent(page.getContent(), gen, provider);
+        gen.writeFieldName(PAGE);
+        gen.writeNumber(page.getPage());
+        gen.writeFieldName(SIZE);
+        gen.writeNumber(page.getSize());
+        gen.writeFieldName(HAS_NEXT);
+        gen.writeBoolean(page.isHasNext());
+        gen.writeFieldName(TOTAL_ELEMENTS);
+        if (page.getTotalElements() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(page.getTotalElements());
+        }
+        gen.writeFieldName(TOTAL_PAGES);
+        if (page.getTotalPages() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(page.getTotalPages());
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeContent(List<?> content, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        if (content == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartArray(content, content.size());
+        Class<?> elementType = null;
+        JsonSerializer<Object> serializer = null;
+        for (Object element : content) {
+            if (element == null) {
+                gen.writeNull();
+                continue;
+            }
+            if (element.getClass() != elementType) {
+                elementType = element.getClass();
+                serializer = provider.findTypedValueSerializer(elementType, true, null);
+            }
+            serializer.serialize(element, gen, provider);
+        }
+        gen.writeEndArray();
+    }
+}
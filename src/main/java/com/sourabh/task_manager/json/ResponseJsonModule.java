@@ -0,0 +1,23 @@
+package com.sourabh.task_manager.json;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.sourabh.task_manager.dto.response.PageResponseDTO;
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import com.sourabh.task_manager.util.ApiResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hand-written serializers for the response types on the hot read paths.
+ * Spring Boot registers every Module bean with the application ObjectMapper,
+ * so controllers and the NDJSON export pick them up; deserialization is unchanged.
+ */
+@Component
+public class ResponseJsonModule extends SimpleModule {
+
+    public ResponseJsonModule() {
+        super("ResponseJsonModule");
+        addSerializer(UserResponseDTO.class, new UserResponseDTOSerializer());
+        addSerializer(ApiResponse.class, new ApiResponseSerializer());
+        addSerializer(PageResponseDTO.class, new PageResponseSerializer());
+    }
+}
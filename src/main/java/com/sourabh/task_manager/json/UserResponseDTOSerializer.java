@@ -0,0 +1,152 @@
+package com.sourabh.task_manager.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes {@link UserResponseDTO} field by field, with pre-encoded property
+ * names and timestamps formatted straight into a char buffer. The output is
+ * identical to the default bean serializer's (ISO-8601 local date-times).
+ */
+public class UserResponseDTOSerializer extends StdSerializer<UserResponseDTO> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString USERNAME = new SerializedString("username");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString FIRST_NAME = new SerializedString("firstName");
+    private static final SerializableString LAST_NAME = new SerializedString("lastName");
+    private static final SerializableString PHONE_NUMBER = new SerializedString("phoneNumber");
+    private static final SerializableString ROLE = new SerializedString("role");
+    private static final SerializableString IS_ACTIVE = new SerializedString("isActive");
+    private static final SerializableString IS_EMAIL_VERIFIED = new SerializedString("isEmailVerified");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializableString LAST_LOGIN = new SerializedString("lastLogin");
+    private static final SerializableString FULL_NAME = new SerializedString("fullName");
+
+    /**
+     * Longest ISO_LOCAL_DATE_TIME for a four-digit year: 2024-01-31T23:59:59.123456789
+     */
+    private static final int MAX_TIMESTAMP_LENGTH = 29;
+
+    private static final ThreadLocal<char[]> TIMESTAMP_BUFFER =
+            ThreadLocal.withInitial(() -> new char[MAX_TIMESTAMP_LENGTH]);
+
+    public UserResponseDTOSerializer() {
+        super(UserResponseDTO.class);
+    }
+
+    @Override
+    public void serialize(UserResponseDTO user, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(user);
+        gen.writeFieldName(ID);
+        if (user.getId() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(user.getId());
+        }
+        writeString(gen, USERNAME, user.getUsername());
+        writeString(gen, EMAIL, user.getEmail());
+        writeString(gen, FIRST_NAME, user.getFirstName());
+        writeString(gen, LAST_NAME, user.getLastName());
+        writeString(gen, PHONE_NUMBER, user.getPhoneNumber());
+        writeString(gen, ROLE, user.getRole() == null ? null : user.getRole().name());
+        writeBoolean(gen, IS_ACTIVE, user.getIsActive());
+        writeBoolean(gen, IS_EMAIL_VERIFIED, user.getIsEmailVerified());
+        writeTimestamp(gen, CREATED_AT, user.getCreatedAt());
+        writeTimestamp(gen, UPDATED_AT, user.getUpdatedAt());
+        writeTimestamp(gen, LAST_LOGIN, user.getLastLogin());
+        writeString(gen, FULL_NAME, user.getFullName());
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeBoolean(JsonGenerator gen, SerializableString name, Boolean value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeBoolean(value);
+        }
+    }
+
+    private static void writeTimestamp(JsonGenerator gen, SerializableString name, LocalDateTime value)
+            throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            // Signed or expanded years; never seen in practice, let the formatter handle them
+            gen.writeString(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return;
+        }
+        char[] buffer = TIMESTAMP_BUFFER.get();
+        gen.writeString(buffer, 0, formatIsoLocalDateTime(value, buffer));
+    }
+
+    /**
+     * Formats like {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}: seconds always
+     * present, fraction only when non-zero and without trailing zeros
+     * @param value a date-time with a year between 0 and 9999
+     * @param buffer at least {@value #MAX_TIMESTAMP_LENGTH} chars
+     * @return the number of chars written
+     */
+    static int formatIsoLocalDateTime(LocalDateTime value, char[] buffer) {
+        int year = value.getYear();
+        buffer[0] = (char) ('0' + year / 1000);
+        buffer[1] = (char) ('0' + year / 100 % 10);
+        buffer[2] = (char) ('0' + year / 10 % 10);
+        buffer[3] = (char) ('0' + year % 10);
+        buffer[4] = '-';
+        writeTwoDigits(buffer, 5, value.getMonthValue());
+        buffer[7] = '-';
+        writeTwoDigits(buffer, 8, value.getDayOfMonth());
+        buffer[10] = 'T';
+        writeTwoDigits(buffer, 11, value.getHour());
+        buffer[13] = ':';
+        writeTwoDigits(buffer, 14, value.getMinute());
+        buffer[16] = ':';
+        writeTwoDigits(buffer, 17, value.getSecond());
+        int length = 19;
+
+        int nano = value.getNano();
+        if (nano != 0) {
+            buffer[length++] = '.';
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            for (int i = length + digits - 1; i >= length; i--) {
+                buffer[i] = (char) ('0' + nano % 10);
+                nano /= 10;
+            }
+            length += digits;
+        }
+        return length;
+    }
+
+    private static void writeTwoDigits(char[] buffer, int offset, int value) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+    }
+}
@@ -0,0 +1,60 @@
+package com.sourabh.task_manager.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Exports every {@link BatchingAsyncAppender} in the logback configuration:
+ * logging.async.queue.depth, logging.async.queue.capacity and
+ * logging.async.dropped (per level), tagged with the appender name
+ */
+@Component
+public class AsyncLoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+        Map<BatchingAsyncAppender, Boolean> bound = new IdentityHashMap<>();
+        for (Logger logger : context.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> appenders = logger.iteratorForAppenders();
+            while (appenders.hasNext()) {
+                if (appenders.next() instanceof BatchingAsyncAppender appender
+                        && bound.put(appender, Boolean.TRUE) == null) {
+                    bind(appender, registry);
+                }
+            }
+        }
+    }
+
+    private static void bind(BatchingAsyncAppender appender, MeterRegistry registry) {
+        Gauge.builder("logging.async.queue.depth", appender, BatchingAsyncAppender::getQueueDepth)
+                .tag("appender", appender.getName())
+                .description("Log events waiting for the writer thread")
+                .register(registry);
+        Gauge.builder("logging.async.queue.capacity", appender, BatchingAsyncAppender::getQueueSize)
+                .tag("appender", appender.getName())
+                .register(registry);
+        for (Level level : BatchingAsyncAppender.LEVELS) {
+            FunctionCounter.builder("logging.async.dropped", appender, a -> a.getDroppedCount(level))
+                    .tag("appender", appender.getName())
+                    .tag("level", level.levelStr)
+                    .description("Log events discarded because the queue was (nearly) full")
+                    .register(registry);
+        }
+    }
+}
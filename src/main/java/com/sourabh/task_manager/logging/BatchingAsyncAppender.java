@@ -0,0 +1,279 @@
+package com.sourabh.task_manager.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hands events to a bounded ring buffer and returns; one writer thread drains
+ * it in batches into the attached appenders and flushes each output stream
+ * once per batch, so attached appenders should set immediateFlush=false.
+ * <p>
+ * When less than discardingThreshold slots are free, events at or below
+ * discardLevel (DEBUG by default) are dropped, keeping room for the rest.
+ * When the buffer is full, whenFull decides between dropping the event (the
+ * default, callers never wait) and blocking the caller. Drops are counted per
+ * level and exported by {@link AsyncLoggingMetrics}.
+ */
+public class BatchingAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    public enum WhenFull { DROP, BLOCK }
+
+    static final List<Level> LEVELS = List.of(Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR);
+
+    private static final long POLL_MILLIS = 100;
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder[] dropped = new LongAdder[LEVELS.size()];
+
+    private int queueSize = 8192;
+    private int batchSize = 256;
+    private int discardingThreshold = -1;
+    private Level discardLevel = Level.DEBUG;
+    private WhenFull whenFull = WhenFull.DROP;
+    private int maxFlushTime = 1000;
+    private boolean includeCallerData;
+
+    private BlockingQueue<ILoggingEvent> queue;
+    private Thread writer;
+
+    public BatchingAsyncAppender() {
+        for (int i = 0; i < dropped.length; i++) {
+            dropped[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("No appender attached to [" + name + "]");
+            return;
+        }
+        if (queueSize < 1 || batchSize < 1) {
+            addError("queueSize and batchSize must be positive for [" + name + "]");
+            return;
+        }
+        if (discardingThreshold < 0) {
+            discardingThreshold = queueSize / 5;
+        }
+        queue = new ArrayBlockingQueue<>(queueSize);
+        writer = new Thread(this::drain, "logback-writer-" + name);
+        writer.setDaemon(true);
+        super.start();
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        try {
+            writer.join(maxFlushTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            addWarn("[" + name + "] did not flush " + queue.size() + " queued events within " + maxFlushTime + " ms");
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (queue.remainingCapacity() < discardingThreshold && event.getLevel().toInt() <= discardLevel.toInt()) {
+            drop(event);
+            return;
+        }
+        // Freeze message arguments, MDC and thread name before another thread renders them
+        event.prepareForDeferredProcessing();
+        if (includeCallerData) {
+            event.getCallerData();
+        }
+        if (whenFull == WhenFull.BLOCK) {
+            try {
+                queue.put(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                drop(event);
+            }
+        } else if (!queue.offer(event)) {
+            drop(event);
+        }
+    }
+
+    private void drop(ILoggingEvent event) {
+        dropped[levelIndex(event.getLevel())].increment();
+    }
+
+    private void drain() {
+        List<ILoggingEvent> batch = new ArrayList<>(batchSize);
+        while (isStarted() || !queue.isEmpty()) {
+            try {
+                ILoggingEvent first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                for (ILoggingEvent event : batch) {
+                    appenders.appendLoopOnAppenders(event);
+                }
+                flush();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                addError("[" + name + "] failed to write a batch", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush() {
+        Iterator<Appender<ILoggingEvent>> it = appenders.iteratorForAppenders();
+        while (it.hasNext()) {
+            if (it.next() instanceof OutputStreamAppender<ILoggingEvent> appender && !appender.isImmediateFlush()) {
+                OutputStream out = appender.getOutputStream();
+                if (out != null) {
+                    try {
+                        out.flush();
+                    } catch (IOException e) {
+                        addError("[" + name + "] failed to flush [" + appender.getName() + "]", e);
+                    }
+                }
+            }
+        }
+    }
+
+    private static int levelIndex(Level level) {
+        int index = LEVELS.indexOf(level);
+        return index < 0 ? 0 : index;
+    }
+
+    public int getQueueDepth() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    public long getDroppedCount(Level level) {
+        return dropped[levelIndex(level)].sum();
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getDiscardingThreshold() {
+        return discardingThreshold;
+    }
+
+    /**
+     * @param discardingThreshold free slots below which discardable events are dropped,
+     *                            -1 for a fifth of the queue, 0 to never drop early
+     */
+    public void setDiscardingThreshold(int discardingThreshold) {
+        this.discardingThreshold = discardingThreshold;
+    }
+
+    public Level getDiscardLevel() {
+        return discardLevel;
+    }
+
+    public void setDiscardLevel(Level discardLevel) {
+        this.discardLevel = discardLevel;
+    }
+
+    public WhenFull getWhenFull() {
+        return whenFull;
+    }
+
+    public void setWhenFull(WhenFull whenFull) {
+        this.whenFull = whenFull;
+    }
+
+    public int getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    /**
+     * @param maxFlushTime milliseconds to wait on stop for queued events to be written
+     */
+    public void setMaxFlushTime(int maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    public boolean isIncludeCallerData() {
+        return includeCallerData;
+    }
+
+    public void setIncludeCallerData(boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
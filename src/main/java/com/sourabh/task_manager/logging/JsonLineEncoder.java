@@ -0,0 +1,159 @@
+package com.sourabh.task_manager.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Encodes each event as one JSON object per line:
+ * {"timestamp":"2024-05-17T09:30:12.345Z","level":"INFO","thread":"...","logger":"...","message":"...","mdc":{...},"exception":"..."}
+ * <p>
+ * Built for the single writer thread of {@link BatchingAsyncAppender}: the
+ * text is assembled in a reused buffer, the date part of the timestamp is
+ * formatted once per second, and UTF-8 is encoded by hand, so the returned
+ * array is the only allocation per event (exceptions aside).
+ */
+public class JsonLineEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        Buffers buffers = this.buffers.get();
+        StringBuilder json = buffers.json;
+        json.setLength(0);
+
+        json.append("{\"timestamp\":\"");
+        appendTimestamp(json, buffers, event.getTimeStamp());
+        json.append("\",\"level\":\"").append(event.getLevel().levelStr);
+        json.append("\",\"thread\":");
+        appendString(json, event.getThreadName());
+        json.append(",\"logger\":");
+        appendString(json, event.getLoggerName());
+        json.append(",\"message\":");
+        appendString(json, event.getFormattedMessage());
+
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        if (mdc != null && !mdc.isEmpty()) {
+            json.append(",\"mdc\":{");
+            boolean first = true;
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                appendString(json, entry.getKey());
+                json.append(':');
+                appendString(json, entry.getValue());
+            }
+            json.append('}');
+        }
+
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            json.append(",\"exception\":");
+            appendString(json, ThrowableProxyUtil.asString(throwable));
+        }
+        json.append("}\n");
+        return toUtf8(json, buffers);
+    }
+
+    private static void appendTimestamp(StringBuilder json, Buffers buffers, long epochMillis) {
+        long second = Math.floorDiv(epochMillis, 1000);
+        if (second != buffers.second) {
+            // yyyy-MM-ddTHH:mm:ss, recomputed once per second
+            String formatted = LocalDateTime.ofEpochSecond(second, 0, ZoneOffset.UTC).toString();
+            buffers.secondText = formatted.length() == 16 ? formatted + ":00" : formatted;
+            buffers.second = second;
+        }
+        int millis = (int) Math.floorMod(epochMillis, 1000);
+        json.append(buffers.secondText).append('.')
+                .append((char) ('0' + millis / 100))
+                .append((char) ('0' + millis / 10 % 10))
+                .append((char) ('0' + millis % 10))
+                .append('Z');
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    private static byte[] toUtf8(StringBuilder json, Buffers buffers) {
+        int length = json.length();
+        if (buffers.bytes.length < length * 3) {
+            buffers.bytes = new byte[length * 3];
+        }
+        byte[] bytes = buffers.bytes;
+        int position = 0;
+        for (int i = 0; i < length; i++) {
+            char c = json.charAt(i);
+            if (c < 0x80) {
+                bytes[position++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[position++] = (byte) (0xC0 | c >> 6);
+                bytes[position++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(json.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, json.charAt(++i));
+                bytes[position++] = (byte) (0xF0 | codePoint >> 18);
+                bytes[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                bytes[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                bytes[position++] = (byte) (0x80 | codePoint & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                bytes[position++] = '?';
+            } else {
+                bytes[position++] = (byte) (0xE0 | c >> 12);
+                bytes[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                bytes[position++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        return Arrays.copyOf(bytes, position);
+    }
+
+    private static final class Buffers {
+
+        private final StringBuilder json = new StringBuilder(512);
+        private byte[] bytes = new byte[1536];
+        private long second = Long.MIN_VALUE;
+        private String secondText;
+    }
+}
@@ -0,0 +1,44 @@
+package com.sourabh.task_manager.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps every DataSource bean in an {@link InstrumentedDataSource}, with a
+ * {@link ProfilingDataSource} between it and the pool. Beans that
+ * only delegate to other DataSources (such as the read/write router) are left
+ * alone, as the pools behind them are instrumented already.
+ */
+@Component
+public class DataSourceInstrumentationPostProcessor implements BeanPostProcessor, Ordered {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<StatementProfiler> statementProfiler;
+
+    public DataSourceInstrumentationPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                  ObjectProvider<StatementProfiler> statementProfiler) {
+        this.meterRegistry = meterRegistry;
+        this.statementProfiler = statementProfiler;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource)) {
+            return new InstrumentedDataSource(
+                    new ProfilingDataSource(dataSource, statementProfiler::getObject), meterRegistry::getObject);
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        // Before any other DataSource wrapper, so the pool itself is what gets timed
+        return 0;
+    }
+}
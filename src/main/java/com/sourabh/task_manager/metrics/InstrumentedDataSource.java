@@ -0,0 +1,73 @@
+package com.sourabh.task_manager.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * DataSource wrapper measuring how long each borrowed connection is held,
+ * tagged with the service method that borrowed it (db.connection.hold)
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final Map<String, Timer> holdTimers = new ConcurrentHashMap<>();
+
+    /**
+     * @param targetDataSource the pool to wrap
+     * @param meterRegistry resolved lazily, the registry is usually not ready when the DataSource is
+     */
+    public InstrumentedDataSource(DataSource targetDataSource, Supplier<MeterRegistry> meterRegistry) {
+        super(targetDataSource);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return instrument(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return instrument(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection instrument(Connection connection) {
+        Timer holdTimer = holdTimer(ServiceMethodContext.currentService(), ServiceMethodContext.currentMethod());
+        long borrowedAt = System.nanoTime();
+        boolean[] closed = {false};
+
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && !closed[0]) {
+                        closed[0] = true;
+                        holdTimer.record(System.nanoTime() - borrowedAt, TimeUnit.NANOSECONDS);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    private Timer holdTimer(String service, String method) {
+        return holdTimers.computeIfAbsent(service + '.' + method, key -> Timer.builder("db.connection.hold")
+                .description("Time a pooled JDBC connection is checked out")
+                .tag("class", service)
+                .tag("method", method)
+                .register(meterRegistry.get()));
+    }
+}
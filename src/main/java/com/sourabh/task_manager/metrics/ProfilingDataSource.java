@@ -0,0 +1,236 @@
+package com.sourabh.task_manager.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Supplier;
+
+/**
+ * DataSource wrapper that reports every statement execution to the
+ * {@link StatementProfiler}: SQL, bind parameter count, rows read or
+ * written, and execution time (up to the driver returning, not including
+ * iterating the result set). Bind values are never captured.
+ */
+public class ProfilingDataSource extends DelegatingDataSource {
+
+    private final Supplier<StatementProfiler> profiler;
+
+    /**
+     * @param targetDataSource the DataSource to wrap
+     * @param profiler resolved lazily, like the meter registry in {@link InstrumentedDataSource}
+     */
+    public ProfilingDataSource(DataSource targetDataSource, Supplier<StatementProfiler> profiler) {
+        super(targetDataSource);
+        this.profiler = profiler;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return profile(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return profile(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection profile(Connection connection) {
+        StatementProfiler statementProfiler = profiler.get();
+        if (!statementProfiler.isEnabled()) {
+            return connection;
+        }
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            return switch (method.getName()) {
+                case "createStatement" ->
+                        proxy(Statement.class, result, new StatementHandler((Statement) result, null, statementProfiler));
+                case "prepareStatement" -> proxy(PreparedStatement.class, result,
+                        new StatementHandler((Statement) result, (String) args[0], statementProfiler));
+                case "prepareCall" -> proxy(CallableStatement.class, result,
+                        new StatementHandler((Statement) result, (String) args[0], statementProfiler));
+                default -> result;
+            };
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * One execution of a statement; queries stay open until their result set
+     * is closed, so the rows read can be counted
+     */
+    private static final class Execution {
+
+        private final String sql;
+        private final int binds;
+        private final long nanos;
+        private long rows;
+
+        private Execution(String sql, int binds, long nanos) {
+            this.sql = sql;
+            this.binds = binds;
+            this.nanos = nanos;
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final String preparedSql;
+        private final StatementProfiler profiler;
+
+        // Highest parameter index bound so far, and the total over queued batch entries
+        private int binds;
+        private int batchBinds;
+        private String batchSql;
+        private Execution open;
+
+        private StatementHandler(Statement statement, String preparedSql, StatementProfiler profiler) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+            this.profiler = profiler;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            switch (name) {
+                case "clearParameters" -> binds = 0;
+                case "addBatch" -> {
+                    if (args != null && args.length == 1 && args[0] instanceof String sql) {
+                        batchSql = sql;
+                    }
+                    batchBinds += binds;
+                }
+                case "clearBatch" -> batchBinds = 0;
+                case "close" -> finish();
+                default -> {
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                        binds = Math.max(binds, index);
+                    }
+                }
+            }
+            Object result = ProfilingDataSource.invoke(statement, method, args);
+            if (name.equals("getResultSet") && result != null && open != null) {
+                return resultSet((ResultSet) result);
+            }
+            return result;
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            finish();
+            String name = method.getName();
+            boolean batch = name.startsWith("executeBatch") || name.startsWith("executeLargeBatch");
+            String sql = args != null && args.length > 0 && args[0] instanceof String text
+                    ? text
+                    : batch && batchSql != null ? batchSql : preparedSql;
+            int executionBinds = batch ? batchBinds : binds;
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = ProfilingDataSource.invoke(statement, method, args);
+            } catch (Throwable e) {
+                profiler.record(sql, executionBinds, 0, System.nanoTime() - start);
+                throw e;
+            }
+            Execution execution = new Execution(sql, executionBinds, System.nanoTime() - start);
+            if (batch) {
+                batchBinds = 0;
+                batchSql = null;
+            }
+            if (result instanceof ResultSet resultSet) {
+                open = execution;
+                return resultSet(resultSet);
+            }
+            if (Boolean.TRUE.equals(result)) {
+                // execute(...) produced a result set, fetched through getResultSet()
+                open = execution;
+                return result;
+            }
+            execution.rows = rows(result);
+            if (Boolean.FALSE.equals(result)) {
+                execution.rows = Math.max(0, statement.getUpdateCount());
+            }
+            report(execution);
+            return result;
+        }
+
+        private ResultSet resultSet(ResultSet resultSet) {
+            Execution execution = open;
+            return proxy(ResultSet.class, resultSet, (proxy, method, args) -> {
+                Object result = ProfilingDataSource.invoke(resultSet, method, args);
+                switch (method.getName()) {
+                    case "next" -> {
+                        if (Boolean.TRUE.equals(result)) {
+                            execution.rows++;
+                        }
+                    }
+                    case "close" -> {
+                        if (open == execution) {
+                            finish();
+                        }
+                    }
+                    default -> {
+                    }
+                }
+                return result;
+            });
+        }
+
+        private void finish() {
+            if (open != null) {
+                Execution execution = open;
+                open = null;
+                report(execution);
+            }
+        }
+
+        private void report(Execution execution) {
+            profiler.record(execution.sql, execution.binds, execution.rows, execution.nanos);
+        }
+
+        private static long rows(Object result) {
+            if (result instanceof Integer count) {
+                return Math.max(0, count);
+            }
+            if (result instanceof Long count) {
+                return Math.max(0, count);
+            }
+            long rows = 0;
+            if (result instanceof int[] counts) {
+                for (int count : counts) {
+                    rows += Math.max(0, count);
+                }
+            } else if (result instanceof long[] counts) {
+                for (long count : counts) {
+                    rows += Math.max(0, count);
+                }
+            }
+            return rows;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.sourabh.task_manager.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the executing service method in {@link ServiceMethodContext} and
+ * times it as service.method{class, method, exception}.
+ * Runs outside the transaction interceptor so connections borrowed by
+ * {@code @Transactional} are attributed to the right method, and commit
+ * time is part of the measured latency.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMethodAspect {
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    // Tag values and the success timer are resolved once per method, not per call
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    public ServiceMethodAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.sourabh.task_manager.service.*Service+.*(..))")
+    public Object aroundServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodMeters method = meters.computeIfAbsent(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), this::methodMeters);
+        String[] previous = ServiceMethodContext.enter(method.service(), method.name());
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            if (result instanceof Mono<?> mono) {
+                // Reactive reads do their work after returning: stop the clock on completion
+                return mono.doOnEach(signal -> {
+                    if (signal.isOnComplete()) {
+                        record(method, null, start);
+                    } else if (signal.isOnError()) {
+                        record(method, signal.getThrowable(), start);
+                    }
+                });
+            }
+            record(method, null, start);
+            return result;
+        } catch (Throwable e) {
+            record(method, e, start);
+            throw e;
+        } finally {
+            ServiceMethodContext.restore(previous);
+        }
+    }
+
+    private void record(MethodMeters method, Throwable error, long start) {
+        Timer timer = error == null
+                ? method.success()
+                : timer(method.service(), method.name(), error.getClass().getSimpleName());
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private MethodMeters methodMeters(Method method) {
+        String service = serviceName(method.getDeclaringClass());
+        return new MethodMeters(service, method.getName(), timer(service, method.getName(), NO_EXCEPTION));
+    }
+
+    private Timer timer(String service, String method, String exception) {
+        return Timer.builder("service.method")
+                .description("Service method latency")
+                .tag("class", service)
+                .tag("method", method)
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+
+    private static String serviceName(Class<?> type) {
+        // Prefer the service interface name over the Impl class for stable tags
+        for (Class<?> candidate : type.getInterfaces()) {
+            if (candidate.getSimpleName().endsWith("Service")) {
+                return candidate.getSimpleName();
+            }
+        }
+        return type.getSimpleName();
+    }
+
+    private record MethodMeters(String service, String name, Timer success) {
+    }
+}
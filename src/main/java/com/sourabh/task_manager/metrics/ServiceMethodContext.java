@@ -0,0 +1,48 @@
+package com.sourabh.task_manager.metrics;
+
+/**
+ * Tracks which service method the current thread is executing,
+ * so lower layers (JDBC instrumentation) can attribute their work to it
+ */
+public final class ServiceMethodContext {
+
+    public static final String NONE = "none";
+
+    private static final ThreadLocal<String[]> CURRENT = new ThreadLocal<>();
+
+    private ServiceMethodContext() {
+    }
+
+    /**
+     * Enter a service method
+     * @param serviceName simple name of the service type
+     * @param methodName the method name
+     * @return the previous context, to be passed to {@link #restore(String[])}
+     */
+    public static String[] enter(String serviceName, String methodName) {
+        String[] previous = CURRENT.get();
+        // Only the outermost service call is recorded, nested calls belong to it
+        if (previous == null) {
+            CURRENT.set(new String[]{serviceName, methodName});
+        }
+        return previous;
+    }
+
+    public static void restore(String[] previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    public static String currentService() {
+        String[] current = CURRENT.get();
+        return current != null ? current[0] : NONE;
+    }
+
+    public static String currentMethod() {
+        String[] current = CURRENT.get();
+        return current != null ? current[1] : NONE;
+    }
+}
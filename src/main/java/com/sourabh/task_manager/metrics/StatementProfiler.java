@@ -0,0 +1,305 @@
+package com.sourabh.task_manager.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Aggregates the statements reported by {@link ProfilingDataSource} by SQL
+ * shape, calling service method ({@link ServiceMethodContext}) and HTTP route.
+ * <p>
+ * Statements slower than the threshold are logged as they finish. Within a
+ * request (scoped by {@link StatementProfilingFilter}) statements are counted
+ * per shape, and shapes repeated at least repeatThreshold times are logged
+ * and counted as jdbc.statements.repeated when the request ends.
+ */
+@Slf4j
+@Component
+public class StatementProfiler {
+
+    public enum Order {
+        TOTAL(Comparator.comparingLong(StatementSummary::totalMicros)),
+        MAX(Comparator.comparingLong(StatementSummary::maxMicros)),
+        MEAN(Comparator.comparingLong(StatementSummary::meanMicros)),
+        COUNT(Comparator.comparingLong(StatementSummary::count)),
+        ROWS(Comparator.comparingLong(StatementSummary::rows));
+
+        private final Comparator<StatementSummary> comparator;
+
+        Order(Comparator<StatementSummary> comparator) {
+            this.comparator = comparator.reversed();
+        }
+    }
+
+    /**
+     * Aggregated executions of one statement shape from one method and route
+     */
+    public record StatementSummary(String sql, String method, String route, long count, long totalMicros,
+                                   long meanMicros, long maxMicros, long rows, double meanRows, double meanBinds) {
+    }
+
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+
+    private final StatementProfilerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final Map<Key, Stats> statements = new ConcurrentHashMap<>();
+    private final Map<String, String> shapes = new ConcurrentHashMap<>();
+    private final LongAdder untracked = new LongAdder();
+    private final ThreadLocal<Map<String, Repeats>> request = new ThreadLocal<>();
+
+    public StatementProfiler(StatementProfilerProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Record one finished statement execution
+     * @param sql the SQL as sent to the driver
+     * @param binds bind parameters, summed over the entries of a batch
+     * @param rows rows read, or rows affected for updates
+     * @param nanos execution time
+     */
+    void record(String sql, int binds, long rows, long nanos) {
+        String shape = shapeOf(sql);
+        String method = currentMethod();
+        String route = currentRoute();
+
+        Key key = new Key(shape, method, route);
+        Stats stats = statements.get(key);
+        if (stats == null) {
+            if (statements.size() < properties.getMaximumTrackedStatements()) {
+                stats = statements.computeIfAbsent(key, k -> new Stats());
+            } else {
+                untracked.increment();
+            }
+        }
+        if (stats != null) {
+            stats.add(binds, rows, nanos);
+        }
+
+        if (nanos >= slowThresholdNanos) {
+            Counter.builder("jdbc.statements.slow")
+                    .tag("method", method)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("Slow statement: {} ms, {} rows, {} binds, {} via {}: {}",
+                    nanos / 1_000_000, rows, binds, route, method, shape);
+        }
+
+        Map<String, Repeats> requestStatements = request.get();
+        if (requestStatements != null) {
+            requestStatements.computeIfAbsent(shape, s -> new Repeats(method)).count++;
+        }
+    }
+
+    /**
+     * Start counting statements for the current request
+     */
+    public void beginRequest() {
+        request.set(new HashMap<>());
+    }
+
+    /**
+     * Stop counting and flag statement shapes the request repeated too often
+     * @param route the request's route, as from {@link #routeOf(HttpServletRequest)}
+     */
+    public void endRequest(String route) {
+        Map<String, Repeats> requestStatements = request.get();
+        request.remove();
+        if (requestStatements == null) {
+            return;
+        }
+        for (Map.Entry<String, Repeats> entry : requestStatements.entrySet()) {
+            Repeats repeats = entry.getValue();
+            if (repeats.count >= properties.getRepeatThreshold()) {
+                Counter.builder("jdbc.statements.repeated")
+                        .description("Requests that ran one statement shape repeatThreshold times or more")
+                        .tag("route", route)
+                        .register(meterRegistry)
+                        .increment();
+                log.warn("Possible N+1: {} ran the same statement {} times, first from {}: {}",
+                        route, repeats.count, repeats.method, entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * @param limit entries to return, the configured top size if null
+     * @param order sort order, highest first
+     * @return the most expensive statements
+     */
+    public List<StatementSummary> top(Integer limit, Order order) {
+        return statements.entrySet().stream()
+                .map(entry -> entry.getValue().summarize(entry.getKey()))
+                .sorted(order.comparator)
+                .limit(limit != null ? limit : properties.getTopSize())
+                .toList();
+    }
+
+    public Map<String, Object> describe(Integer limit, Order order) {
+        return Map.of(
+                "tracked", statements.size(),
+                "untracked", untracked.sum(),
+                "slowThresholdMillis", properties.getSlowThreshold().toMillis(),
+                "order", order.name().toLowerCase(),
+                "statements", top(limit, order));
+    }
+
+    public void reset() {
+        statements.clear();
+        untracked.reset();
+    }
+
+    /**
+     * The statement with literals replaced by '?', parameter lists collapsed
+     * and whitespace normalized, so executions that differ only in values
+     * (or IN list length) share one shape
+     */
+    String shapeOf(String sql) {
+        if (sql == null) {
+            return "<unknown>";
+        }
+        String shape = shapes.get(sql);
+        if (shape == null) {
+            shape = normalize(sql);
+            if (shapes.size() < properties.getMaximumTrackedStatements() * 2) {
+                shapes.put(sql, shape);
+            }
+        }
+        return shape;
+    }
+
+    static String normalize(String sql) {
+        StringBuilder shape = new StringBuilder(sql.length());
+        boolean pendingSpace = false;
+        int i = 0;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = shape.length() > 0;
+                i++;
+                continue;
+            }
+            if (pendingSpace) {
+                shape.append(' ');
+                pendingSpace = false;
+            }
+            if (c == '\'') {
+                // String literal, '' is an escaped quote
+                i++;
+                while (i < sql.length()) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                shape.append('?');
+                i++;
+            } else if (Character.isDigit(c) && !partOfIdentifier(shape)) {
+                while (i < sql.length() && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                shape.append('?');
+            } else {
+                shape.append(c);
+                i++;
+            }
+        }
+        return PARAMETER_LIST.matcher(shape).replaceAll("?");
+    }
+
+    private static boolean partOfIdentifier(StringBuilder shape) {
+        if (shape.length() == 0) {
+            return false;
+        }
+        char previous = shape.charAt(shape.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$' || previous == '"';
+    }
+
+    private static String currentMethod() {
+        String service = ServiceMethodContext.currentService();
+        return ServiceMethodContext.NONE.equals(service)
+                ? ServiceMethodContext.NONE
+                : service + '.' + ServiceMethodContext.currentMethod();
+    }
+
+    private static String currentRoute() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servlet
+                ? routeOf(servlet.getRequest())
+                : ServiceMethodContext.NONE;
+    }
+
+    /**
+     * @return "GET /api/users/{id}" once the handler is resolved, "none" before
+     * (security filters) or for unmapped requests, to keep the value low-cardinality
+     */
+    static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? request.getMethod() + ' ' + pattern : ServiceMethodContext.NONE;
+    }
+
+    private record Key(String sql, String method, String route) {
+    }
+
+    private static final class Repeats {
+
+        private final String method;
+        private int count;
+
+        private Repeats(String method) {
+            this.method = method;
+        }
+    }
+
+    private static final class Stats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder binds = new LongAdder();
+
+        private void add(int binds, long rows, long nanos) {
+            this.count.increment();
+            this.nanos.add(nanos);
+            this.maxNanos.accumulate(nanos);
+            this.rows.add(rows);
+            this.binds.add(binds);
+        }
+
+        private StatementSummary summarize(Key key) {
+            long executions = Math.max(1, count.sum());
+            long totalMicros = nanos.sum() / 1_000;
+            long totalRows = rows.sum();
+            return new StatementSummary(key.sql(), key.method(), key.route(), count.sum(), totalMicros,
+                    totalMicros / executions, maxNanos.get() / 1_000, totalRows,
+                    (double) totalRows / executions, (double) binds.sum() / executions);
+        }
+    }
+}
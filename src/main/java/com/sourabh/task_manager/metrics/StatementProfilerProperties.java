@@ -0,0 +1,40 @@
+package com.sourabh.task_manager.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * JDBC statement profiling: per-statement latency, rows and bind counts,
+ * the slow-statement log and repeated-statement (N+1) detection
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.datasource.profiling")
+public class StatementProfilerProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Statements taking at least this long are logged at WARN
+     */
+    private Duration slowThreshold = Duration.ofMillis(200);
+
+    /**
+     * A request running the same statement shape this many times is flagged as a likely N+1
+     */
+    private int repeatThreshold = 10;
+
+    /**
+     * Distinct statement/method/route combinations kept for /actuator/statements;
+     * once reached, new combinations are only counted
+     */
+    private int maximumTrackedStatements = 1000;
+
+    /**
+     * Entries returned by /actuator/statements when no limit is given
+     */
+    private int topSize = 20;
+}
@@ -0,0 +1,40 @@
+package com.sourabh.task_manager.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Scopes {@link StatementProfiler}'s repeated-statement detection to each request
+ */
+@Component
+public class StatementProfilingFilter extends OncePerRequestFilter {
+
+    private final StatementProfiler statementProfiler;
+
+    public StatementProfilingFilter(StatementProfiler statementProfiler) {
+        this.statementProfiler = statementProfiler;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !statementProfiler.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        statementProfiler.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statementProfiler.endRequest(StatementProfiler.routeOf(request));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.sourabh.task_manager.metrics;
+
+import com.sourabh.task_manager.util.InvalidRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Actuator endpoint for the JDBC statement profile
+ * GET /actuator/statements?limit=20&amp;order=total|max|mean|count|rows,
+ * DELETE /actuator/statements to start over.
+ * Both operations fall under the same admin-only actuator rule: the profile
+ * exposes SQL text, so reading it is as privileged as resetting it.
+ */
+@Component
+@Endpoint(id = "statements")
+public class StatementsEndpoint {
+
+    private final StatementProfiler statementProfiler;
+
+    public StatementsEndpoint(StatementProfiler statementProfiler) {
+        this.statementProfiler = statementProfiler;
+    }
+
+    @ReadOperation
+    public Map<String, Object> top(@Nullable Integer limit, @Nullable String order) {
+        if (limit != null && limit < 1) {
+            throw new InvalidRequestException("limit must be positive");
+        }
+        return statementProfiler.describe(limit, order == null ? StatementProfiler.Order.TOTAL : parse(order));
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statementProfiler.reset();
+    }
+
+    private static StatementProfiler.Order parse(String order) {
+        try {
+            return StatementProfiler.Order.valueOf(order.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("order must be one of "
+                    + Arrays.toString(StatementProfiler.Order.values()).toLowerCase(), e);
+        }
+    }
+}
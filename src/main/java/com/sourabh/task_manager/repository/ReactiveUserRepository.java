@@ -0,0 +1,210 @@
+package com.sourabh.task_manager.repository;
+
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import com.sourabh.task_manager.enums.UserRole;
+import com.sourabh.task_manager.util.InvalidRequestException;
+import io.r2dbc.spi.Readable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking counterparts of the {@link UserRepository} read queries, over
+ * R2DBC. Rows map straight to {@link UserResponseDTO}, selecting the same
+ * columns as the JPQL projections and never the password hash.
+ */
+@Repository
+public class ReactiveUserRepository {
+
+    private static final String RESPONSE_DTO_SELECT = "SELECT id, username, email, first_name, last_name, " +
+            "phone_number, role, is_active, is_email_verified, created_at, updated_at, last_login FROM users ";
+
+    private static final String BASIC_DTO_SELECT =
+            "SELECT id, username, first_name, last_name, role, is_active FROM users ";
+
+    private static final String NAME_SEARCH_CONDITION = "WHERE " +
+            "LOWER(first_name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(last_name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(username) LIKE LOWER(CONCAT('%', :searchTerm, '%'))";
+
+    /**
+     * The role bound as text, cast so that it also compares against H2's ENUM column type
+     */
+    private static final String ROLE_PARAMETER = "CAST(:role AS VARCHAR(20))";
+
+    /**
+     * Sortable properties and their columns; anything else is rejected rather than spliced into SQL
+     */
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "username", "username",
+            "email", "email",
+            "firstName", "first_name",
+            "lastName", "last_name",
+            "role", "role",
+            "isActive", "is_active",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at",
+            "lastLogin", "last_login");
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveUserRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<UserResponseDTO> findUserDTOById(Long id) {
+        return databaseClient.sql(RESPONSE_DTO_SELECT + "WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveUserRepository::toResponseDTO)
+                .one();
+    }
+
+    public Mono<UserResponseDTO> findUserDTOByUsername(String username) {
+        return databaseClient.sql(RESPONSE_DTO_SELECT + "WHERE username = :username")
+                .bind("username", username)
+                .map(ReactiveUserRepository::toResponseDTO)
+                .one();
+    }
+
+    public Mono<UserResponseDTO> findUserDTOByEmail(String email) {
+        return databaseClient.sql(RESPONSE_DTO_SELECT + "WHERE email = :email")
+                .bind("email", email)
+                .map(ReactiveUserRepository::toResponseDTO)
+                .one();
+    }
+
+    /**
+     * @param ids the user IDs, not empty
+     * @return user DTOs, in no particular order
+     */
+    public Flux<UserResponseDTO> findUserDTOsByIdIn(Collection<Long> ids) {
+        return databaseClient.sql(RESPONSE_DTO_SELECT + "WHERE id IN (:ids)")
+                .bind("ids", ids)
+                .map(ReactiveUserRepository::toResponseDTO)
+                .all();
+    }
+
+    /**
+     * One page of users; pair with {@link #count()}
+     * @param pageable page, size and sort (by property name, as in the JPA variant)
+     */
+    public Flux<UserResponseDTO> findAllUserDTOs(Pageable pageable) {
+        return databaseClient.sql(RESPONSE_DTO_SELECT + orderBy(pageable.getSort()) + limit(pageable))
+                .map(ReactiveUserRepository::toResponseDTO)
+                .all();
+    }
+
+    public Mono<Long> count() {
+        return databaseClient.sql("SELECT COUNT(*) FROM users")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    /**
+     * One page of users whose username, first or last name contains the term; pair with {@link #countByName(String)}
+     */
+    public Flux<UserResponseDTO> searchUserDTOsByName(String searchTerm, Pageable pageable) {
+        return databaseClient.sql(RESPONSE_DTO_SELECT + NAME_SEARCH_CONDITION
+                        + orderBy(pageable.getSort()) + limit(pageable))
+                .bind("searchTerm", searchTerm)
+                .map(ReactiveUserRepository::toResponseDTO)
+                .all();
+    }
+
+    public Mono<Long> countByName(String searchTerm) {
+        return databaseClient.sql("SELECT COUNT(*) FROM users " + NAME_SEARCH_CONDITION)
+                .bind("searchTerm", searchTerm)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    public Flux<UserResponseDTO> findActiveUserDTOs() {
+        return databaseClient.sql(RESPONSE_DTO_SELECT + "WHERE is_active = TRUE")
+                .map(ReactiveUserRepository::toResponseDTO)
+                .all();
+    }
+
+    public Flux<UserResponseDTO> findActiveUserBasicDTOs() {
+        return databaseClient.sql(BASIC_DTO_SELECT + "WHERE is_active = TRUE")
+                .map(ReactiveUserRepository::toBasicDTO)
+                .all();
+    }
+
+    public Flux<UserResponseDTO> findUserDTOsByRole(UserRole role) {
+        return databaseClient.sql(RESPONSE_DTO_SELECT + "WHERE role = " + ROLE_PARAMETER)
+                .bind("role", role.name())
+                .map(ReactiveUserRepository::toResponseDTO)
+                .all();
+    }
+
+    public Flux<UserResponseDTO> findUserBasicDTOsByRole(UserRole role) {
+        return databaseClient.sql(BASIC_DTO_SELECT + "WHERE role = " + ROLE_PARAMETER)
+                .bind("role", role.name())
+                .map(ReactiveUserRepository::toBasicDTO)
+                .all();
+    }
+
+    /**
+     * @param cutoffDate users who never logged in, or last did before this, are returned
+     */
+    public Flux<UserResponseDTO> findInactiveUserDTOsSince(LocalDateTime cutoffDate) {
+        return databaseClient.sql(RESPONSE_DTO_SELECT + "WHERE last_login IS NULL OR last_login < :cutoffDate")
+                .bind("cutoffDate", cutoffDate)
+                .map(ReactiveUserRepository::toResponseDTO)
+                .all();
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        return sort.stream()
+                .map(order -> {
+                    String column = SORT_COLUMNS.get(order.getProperty());
+                    if (column == null) {
+                        throw new InvalidRequestException("Cannot sort by: " + order.getProperty());
+                    }
+                    return column + (order.isAscending() ? " ASC" : " DESC");
+                })
+                .collect(Collectors.joining(", ", "ORDER BY ", " "));
+    }
+
+    private static String limit(Pageable pageable) {
+        return "LIMIT " + pageable.getPageSize() + " OFFSET " + pageable.getOffset();
+    }
+
+    private static UserResponseDTO toResponseDTO(Readable row) {
+        return new UserResponseDTO(
+                row.get("id", Long.class),
+                row.get("username", String.class),
+                row.get("email", String.class),
+                row.get("first_name", String.class),
+                row.get("last_name", String.class),
+                row.get("phone_number", String.class),
+                UserRole.valueOf(row.get("role", String.class)),
+                row.get("is_active", Boolean.class),
+                row.get("is_email_verified", Boolean.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class),
+                row.get("last_login", LocalDateTime.class));
+    }
+
+    private static UserResponseDTO toBasicDTO(Readable row) {
+        return new UserResponseDTO(
+                row.get("id", Long.class),
+                row.get("username", String.class),
+                row.get("first_name", String.class),
+                row.get("last_name", String.class),
+                UserRole.valueOf(row.get("role", String.class)),
+                row.get("is_active", Boolean.class));
+    }
+}
@@ -0,0 +1,127 @@
+package com.sourabh.task_manager.repository;
+
+import com.sourabh.task_manager.entity.UserEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Queries and writes for bulk operations that the derived repository methods
+ * cannot express. UserEntity uses IDENTITY keys, which stops Hibernate from
+ * batching inserts, so bulk inserts bypass JPA.
+ * On PostgreSQL, reWriteBatchedInserts=true on the JDBC URL turns each batch
+ * into multi-row INSERT statements.
+ */
+@Repository
+public class UserBatchRepository {
+
+    private static final String INSERT_USER = "INSERT INTO users (username, email, password, first_name, " +
+            "last_name, phone_number, role, is_active, is_email_verified, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Never moves last_login backwards, so an out-of-order flush cannot overwrite a newer login
+     */
+    private static final String UPDATE_LAST_LOGIN = "UPDATE users SET last_login = ? " +
+            "WHERE id = ? AND (last_login IS NULL OR last_login < ?)";
+
+    private static final int IDENTITY_FETCH_SIZE = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public UserBatchRepository(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Select only the ID and username of the matching users
+     * @param specification the users to select
+     * @param limit the most users to return
+     * @return username by user ID, in ID order
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, String> findUsernamesById(Specification<UserEntity> specification, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<UserEntity> root = query.from(UserEntity.class);
+        query.multiselect(root.get("id"), root.get("username"))
+                .where(specification.toPredicate(root, query, cb))
+                .orderBy(cb.asc(root.get("id")));
+
+        Map<Long, String> usernames = new LinkedHashMap<>();
+        for (Tuple tuple : entityManager.createQuery(query).setMaxResults(limit).getResultList()) {
+            usernames.put(tuple.get(0, Long.class), tuple.get(1, String.class));
+        }
+        return usernames;
+    }
+
+    /**
+     * Stream the username and email of every user through a database cursor
+     * @param consumer receives username and email of each user
+     */
+    @Transactional(readOnly = true)
+    public void forEachIdentity(BiConsumer<String, String> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT username, email FROM users");
+            statement.setFetchSize(IDENTITY_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(rs.getString(1), rs.getString(2)));
+    }
+
+    /**
+     * Insert users in JDBC batches within one transaction.
+     * Entity callbacks do not run, so timestamps are set here.
+     * @param users the users to insert, IDs are not populated
+     * @param batchSize rows per JDBC batch
+     */
+    @Transactional
+    public void insertAll(List<UserEntity> users, int batchSize) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_USER, users, batchSize, (ps, user) -> {
+            ps.setString(1, user.getUsername());
+            ps.setString(2, user.getEmail());
+            ps.setString(3, user.getPassword());
+            ps.setString(4, user.getFirstName());
+            ps.setString(5, user.getLastName());
+            ps.setString(6, user.getPhoneNumber());
+            ps.setString(7, user.getRole().name());
+            ps.setBoolean(8, Boolean.TRUE.equals(user.getIsActive()));
+            ps.setBoolean(9, Boolean.TRUE.equals(user.getIsEmailVerified()));
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        });
+    }
+
+    /**
+     * Set last-login timestamps in JDBC batches within one transaction.
+     * updated_at is left alone, as it is for single logins.
+     * @param lastLogins login time by user ID
+     * @param batchSize rows per JDBC batch
+     */
+    @Transactional
+    public void updateLastLogins(Map<Long, LocalDateTime> lastLogins, int batchSize) {
+        jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN, List.copyOf(lastLogins.entrySet()), batchSize, (ps, entry) -> {
+            Timestamp loginTime = Timestamp.valueOf(entry.getValue());
+            ps.setTimestamp(1, loginTime);
+            ps.setLong(2, entry.getKey());
+            ps.setTimestamp(3, loginTime);
+        });
+    }
+}
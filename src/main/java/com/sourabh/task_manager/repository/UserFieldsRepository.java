@@ -0,0 +1,111 @@
+package com.sourabh.task_manager.repository;
+
+import com.sourabh.task_manager.dto.request.UserFieldSet;
+import com.sourabh.task_manager.entity.UserEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sparse-fieldset reads: tuple queries whose SELECT list holds only the
+ * attributes a {@link UserFieldSet} needs, returned as ordered maps ready to serialize
+ */
+@Repository
+public class UserFieldsRepository {
+
+    private final EntityManager entityManager;
+
+    public UserFieldsRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * @param specification the users to select
+     * @param fields the properties to return
+     * @param sort order of the result, by UserEntity property
+     * @return one map per matching user
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findAll(Specification<UserEntity> specification,
+                                                       UserFieldSet fields, Sort sort) {
+        CriteriaQuery<Tuple> query = tupleQuery(specification, fields, sort);
+        return toResponses(entityManager.createQuery(query).getResultList(), fields);
+    }
+
+    /**
+     * @param specification the users to select
+     * @param fields the properties to return
+     * @param pageable page, size and sort
+     * @return one page of maps, with the total count
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findAll(Specification<UserEntity> specification,
+                                                       UserFieldSet fields, Pageable pageable) {
+        CriteriaQuery<Tuple> query = tupleQuery(specification, fields, pageable.getSort());
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return new PageImpl<>(toResponses(rows, fields), pageable, count(specification));
+    }
+
+    /**
+     * @param ids the user IDs
+     * @param fields the properties to return
+     * @return one map per existing user, keyed by ID whether or not the ID was requested
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Map<String, Object>> findAllById(Collection<Long> ids, UserFieldSet fields) {
+        CriteriaQuery<Tuple> query = tupleQuery(UserSpecifications.idIn(ids), fields, Sort.unsorted());
+        Map<Long, Map<String, Object>> users = new HashMap<>();
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            users.put(row.get("id", Long.class), fields.toResponse(row::get));
+        }
+        return users;
+    }
+
+    private CriteriaQuery<Tuple> tupleQuery(Specification<UserEntity> specification, UserFieldSet fields, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<UserEntity> root = query.from(UserEntity.class);
+        List<Selection<?>> selections = fields.getAttributes().stream()
+                .<Selection<?>>map(attribute -> root.get(attribute).alias(attribute))
+                .toList();
+        query.multiselect(selections)
+                .where(specification.toPredicate(root, query, cb));
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return query;
+    }
+
+    private long count(Specification<UserEntity> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<UserEntity> root = query.from(UserEntity.class);
+        query.select(cb.count(root)).where(specification.toPredicate(root, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static List<Map<String, Object>> toResponses(List<Tuple> rows, UserFieldSet fields) {
+        return rows.stream()
+                .map(row -> fields.toResponse(row::get))
+                .toList();
+    }
+}
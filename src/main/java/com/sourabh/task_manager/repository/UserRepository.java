@@ -1,25 +1,58 @@
 package com.sourabh.task_manager.repository;
 
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
 import com.sourabh.task_manager.entity.UserEntity;
 import com.sourabh.task_manager.enums.UserRole;
+import com.sourabh.task_manager.repository.projection.IdRangeView;
+import com.sourabh.task_manager.repository.projection.RoleActivityCountView;
+import com.sourabh.task_manager.repository.projection.UserIdentityView;
+import com.sourabh.task_manager.repository.projection.UserNameView;
+import com.sourabh.task_manager.repository.projection.UserVersionView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for User entity operations
- * Extends JpaRepository to provide CRUD operations and custom query methods
+ * Extends JpaRepository to provide CRUD operations and custom query methods,
+ * and JpaSpecificationExecutor for keyset (cursor) scrolling
  */
 @Repository
-public interface UserRepository extends JpaRepository<UserEntity, Long> {
+public interface UserRepository extends JpaRepository<UserEntity, Long>, JpaSpecificationExecutor<UserEntity> {
+
+    /**
+     * Constructor-expression projection selecting only the UserResponseDTO columns (no password hash).
+     * Results are plain DTOs, never managed entities, so Hibernate keeps no snapshots for them.
+     */
+    String RESPONSE_DTO_SELECT = "SELECT new com.sourabh.task_manager.dto.response.UserResponseDTO(" +
+            "u.id, u.username, u.email, u.firstName, u.lastName, u.phoneNumber, u.role, " +
+            "u.isActive, u.isEmailVerified, u.createdAt, u.updatedAt, u.lastLogin) FROM UserEntity u ";
+
+    /**
+     * Projection matching UserMapper#toBasicResponseDTO
+     */
+    String BASIC_DTO_SELECT = "SELECT new com.sourabh.task_manager.dto.response.UserResponseDTO(" +
+            "u.id, u.username, u.firstName, u.lastName, u.role, u.isActive) FROM UserEntity u ";
+
+    String NAME_SEARCH_CONDITION = "WHERE " +
+            "LOWER(u.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(u.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(u.username) LIKE LOWER(CONCAT('%', :searchTerm, '%'))";
 
     /**
      * Find user by username
@@ -112,12 +145,154 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
      * @param pageable pagination information
      * @return Page of users matching the search criteria
      */
-    @Query("SELECT u FROM UserEntity u WHERE " +
-            "LOWER(u.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-            "LOWER(u.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-            "LOWER(u.username) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
+    @Query("SELECT u FROM UserEntity u " + NAME_SEARCH_CONDITION)
     Page<UserEntity> searchUsersByName(@Param("searchTerm") String searchTerm, Pageable pageable);
 
+    /**
+     * Projection variant of {@link #searchUsersByName(String, Pageable)}
+     * @param searchTerm the term to search for in names
+     * @param pageable pagination information
+     * @return Page of user DTOs matching the search criteria
+     */
+    @Query(value = RESPONSE_DTO_SELECT + NAME_SEARCH_CONDITION,
+            countQuery = "SELECT COUNT(u) FROM UserEntity u " + NAME_SEARCH_CONDITION)
+    Page<UserResponseDTO> searchUserDTOsByName(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+    /**
+     * Find all users as DTOs with pagination
+     * @param pageable pagination information
+     * @return Page of user DTOs
+     */
+    @Query(value = RESPONSE_DTO_SELECT, countQuery = "SELECT COUNT(u) FROM UserEntity u")
+    Page<UserResponseDTO> findAllUserDTOs(Pageable pageable);
+
+    /**
+     * Find users as DTOs by ID
+     * @param ids the user IDs
+     * @return user DTOs, in no particular order
+     */
+    @Query(RESPONSE_DTO_SELECT + "WHERE u.id IN :ids")
+    List<UserResponseDTO> findUserDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find a user as a DTO by ID
+     * @param id the user ID
+     * @return Optional containing the user DTO if found
+     */
+    @Query(RESPONSE_DTO_SELECT + "WHERE u.id = :id")
+    Optional<UserResponseDTO> findUserDTOById(@Param("id") Long id);
+
+    /**
+     * Find a user as a DTO by username
+     * @param username the username
+     * @return Optional containing the user DTO if found
+     */
+    @Query(RESPONSE_DTO_SELECT + "WHERE u.username = :username")
+    Optional<UserResponseDTO> findUserDTOByUsername(@Param("username") String username);
+
+    /**
+     * Find only the version columns of a user, to validate an ETag without loading the profile
+     * @param id the user ID
+     * @return Optional containing the version if the user exists
+     */
+    @Query("SELECT u.id AS id, u.updatedAt AS updatedAt, u.lastLogin AS lastLogin FROM UserEntity u WHERE u.id = :id")
+    Optional<UserVersionView> findVersionById(@Param("id") Long id);
+
+    /**
+     * Find only the version columns of a user by username
+     * @param username the username
+     * @return Optional containing the version if the user exists
+     */
+    @Query("SELECT u.id AS id, u.updatedAt AS updatedAt, u.lastLogin AS lastLogin FROM UserEntity u " +
+            "WHERE u.username = :username")
+    Optional<UserVersionView> findVersionByUsername(@Param("username") String username);
+
+    /**
+     * Find a user as a DTO by email
+     * @param email the email
+     * @return Optional containing the user DTO if found
+     */
+    @Query(RESPONSE_DTO_SELECT + "WHERE u.email = :email")
+    Optional<UserResponseDTO> findUserDTOByEmail(@Param("email") String email);
+
+    /**
+     * Find users as DTOs by username
+     * @param usernames the usernames
+     * @return user DTOs, in no particular order
+     */
+    @Query(RESPONSE_DTO_SELECT + "WHERE u.username IN :usernames")
+    List<UserResponseDTO> findUserDTOsByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * Find the existing users that clash with any of the given usernames or emails
+     * @param usernames candidate usernames
+     * @param emails candidate emails
+     * @return username and email of every clashing user
+     */
+    @Query("SELECT u.username AS username, u.email AS email FROM UserEntity u " +
+            "WHERE u.username IN :usernames OR u.email IN :emails")
+    List<UserIdentityView> findIdentitiesByUsernameInOrEmailIn(@Param("usernames") Collection<String> usernames,
+                                                              @Param("emails") Collection<String> emails);
+
+    /**
+     * Find all active users as DTOs
+     * @return List of active user DTOs
+     */
+    @Query(RESPONSE_DTO_SELECT + "WHERE u.isActive = true")
+    List<UserResponseDTO> findActiveUserDTOs();
+
+    /**
+     * Find all active users with basic fields only
+     * @return List of basic active user DTOs
+     */
+    @Query(BASIC_DTO_SELECT + "WHERE u.isActive = true")
+    List<UserResponseDTO> findActiveUserBasicDTOs();
+
+    /**
+     * Find users as DTOs by role
+     * @param role the user role to filter by
+     * @return List of user DTOs with the specified role
+     */
+    @Query(RESPONSE_DTO_SELECT + "WHERE u.role = :role")
+    List<UserResponseDTO> findUserDTOsByRole(@Param("role") UserRole role);
+
+    /**
+     * Find users by role with basic fields only
+     * @param role the user role to filter by
+     * @return List of basic user DTOs with the specified role
+     */
+    @Query(BASIC_DTO_SELECT + "WHERE u.role = :role")
+    List<UserResponseDTO> findUserBasicDTOsByRole(@Param("role") UserRole role);
+
+    /**
+     * Stream all users in ID order through a server-side cursor.
+     * Must be consumed inside a transaction; entities are read-only so Hibernate keeps no snapshots.
+     * @return stream of users, to be closed by the caller
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM UserEntity u ORDER BY u.id")
+    Stream<UserEntity> streamAllBy();
+
+    /**
+     * Find the lowest and highest user ID
+     * @return the ID range, with null bounds when there are no users
+     */
+    @Query("SELECT MIN(u.id) AS minId, MAX(u.id) AS maxId FROM UserEntity u")
+    IdRangeView findIdRange();
+
+    /**
+     * Load the name columns of a range of users (search index build)
+     * @param fromId lowest ID, inclusive
+     * @param toId highest ID, inclusive
+     * @return name projections of the users in the range
+     */
+    @Query("SELECT u.id AS id, u.username AS username, u.firstName AS firstName, u.lastName AS lastName " +
+            "FROM UserEntity u WHERE u.id BETWEEN :fromId AND :toId")
+    List<UserNameView> findNamesByIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
     /**
      * Find active users with pagination
      * @param pageable pagination information
@@ -134,6 +309,62 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     @Query("UPDATE UserEntity u SET u.lastLogin = :lastLogin WHERE u.id = :userId")
     void updateLastLogin(@Param("userId") Long userId, @Param("lastLogin") LocalDateTime lastLogin);
 
+    /**
+     * Update user's password hash
+     * @param userId the user ID
+     * @param password the encoded password
+     * @param updatedAt the modification timestamp
+     * @return number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE UserEntity u SET u.password = :password, u.updatedAt = :updatedAt WHERE u.id = :userId")
+    int updatePassword(@Param("userId") Long userId,
+                       @Param("password") String password,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Set the active flag on many users in one statement, skipping users already in that state
+     * @param ids the user IDs
+     * @param isActive the active status
+     * @param updatedAt the modification timestamp
+     * @return number of users changed
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE UserEntity u SET u.isActive = :isActive, u.updatedAt = :updatedAt " +
+            "WHERE u.id IN :ids AND u.isActive <> :isActive")
+    int updateActiveStatusByIdIn(@Param("ids") Collection<Long> ids,
+                                 @Param("isActive") Boolean isActive,
+                                 @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Mark many users' emails as verified in one statement, skipping users already verified
+     * @param ids the user IDs
+     * @param updatedAt the modification timestamp
+     * @return number of users changed
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE UserEntity u SET u.isEmailVerified = true, u.updatedAt = :updatedAt " +
+            "WHERE u.id IN :ids AND u.isEmailVerified = false")
+    int verifyEmailsByIdIn(@Param("ids") Collection<Long> ids, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Set the role of many users in one statement, skipping users that already have it
+     * @param ids the user IDs
+     * @param role the new role
+     * @param updatedAt the modification timestamp
+     * @return number of users changed
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE UserEntity u SET u.role = :role, u.updatedAt = :updatedAt " +
+            "WHERE u.id IN :ids AND u.role <> :role")
+    int updateRoleByIdIn(@Param("ids") Collection<Long> ids,
+                         @Param("role") UserRole role,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+
     /**
      * Update user's active status
      * @param userId the user ID
@@ -165,6 +396,14 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
      */
     long countByIsActiveTrue();
 
+    /**
+     * Count users per role and active flag in a single grouped scan
+     * @return one row per (role, active) combination that has users
+     */
+    @Query("SELECT u.role AS role, u.isActive AS active, COUNT(u) AS total FROM UserEntity u " +
+            "GROUP BY u.role, u.isActive")
+    List<RoleActivityCountView> countGroupedByRoleAndActive();
+
     /**
      * Count users registered today
      * @param startOfDay start of the current day
@@ -182,4 +421,12 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
      */
     @Query("SELECT u FROM UserEntity u WHERE u.lastLogin IS NULL OR u.lastLogin < :cutoffDate")
     List<UserEntity> findInactiveUsersSince(@Param("cutoffDate") LocalDateTime cutoffDate);
+
+    /**
+     * Projection variant of {@link #findInactiveUsersSince(LocalDateTime)}
+     * @param cutoffDate the cutoff date for last login
+     * @return List of inactive user DTOs based on login activity
+     */
+    @Query(RESPONSE_DTO_SELECT + "WHERE u.lastLogin IS NULL OR u.lastLogin < :cutoffDate")
+    List<UserResponseDTO> findInactiveUserDTOsSince(@Param("cutoffDate") LocalDateTime cutoffDate);
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.sourabh.task_manager.repository;
+
+import com.sourabh.task_manager.dto.request.UserFilterDTO;
+import com.sourabh.task_manager.entity.UserEntity;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reusable query criteria for {@link UserEntity}
+ */
+public final class UserSpecifications {
+
+    private UserSpecifications() {
+    }
+
+    /**
+     * Match every user
+     * @return an unrestricted specification
+     */
+    public static Specification<UserEntity> all() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    /**
+     * Same criteria as {@link UserRepository#searchUsersByName}
+     * @param searchTerm the term to search for in names
+     * @return specification matching username, first name or last name
+     */
+    public static Specification<UserEntity> nameContains(String searchTerm) {
+        return (root, query, cb) -> {
+            String pattern = "%" + searchTerm.toLowerCase() + "%";
+            return cb.or(
+                    cb.like(cb.lower(root.get("firstName")), pattern),
+                    cb.like(cb.lower(root.get("lastName")), pattern),
+                    cb.like(cb.lower(root.get("username")), pattern));
+        };
+    }
+
+    /**
+     * Match users with any of the given IDs
+     * @param ids the user IDs
+     * @return specification matching the IDs
+     */
+    public static Specification<UserEntity> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * Match the user with the given username
+     * @param username the username
+     * @return specification matching the username
+     */
+    public static Specification<UserEntity> usernameEquals(String username) {
+        return (root, query, cb) -> cb.equal(root.get("username"), username);
+    }
+
+    /**
+     * Match users by every attribute set on the filter
+     * @param filter the filter, unset fields are ignored
+     * @return specification matching all set attributes
+     */
+    public static Specification<UserEntity> matching(UserFilterDTO filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getRole() != null) {
+                predicates.add(cb.equal(root.get("role"), filter.getRole()));
+            }
+            if (filter.getIsActive() != null) {
+                predicates.add(cb.equal(root.get("isActive"), filter.getIsActive()));
+            }
+            if (filter.getIsEmailVerified() != null) {
+                predicates.add(cb.equal(root.get("isEmailVerified"), filter.getIsEmailVerified()));
+            }
+            if (filter.getLastLoginBefore() != null) {
+                predicates.add(cb.or(
+                        cb.isNull(root.get("lastLogin")),
+                        cb.lessThan(root.get("lastLogin"), filter.getLastLoginBefore())));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
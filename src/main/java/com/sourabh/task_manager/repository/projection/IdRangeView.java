@@ -0,0 +1,11 @@
+package com.sourabh.task_manager.repository.projection;
+
+/**
+ * Projection of the lowest and highest user ID
+ */
+public interface IdRangeView {
+
+    Long getMinId();
+
+    Long getMaxId();
+}
@@ -0,0 +1,15 @@
+package com.sourabh.task_manager.repository.projection;
+
+import com.sourabh.task_manager.enums.UserRole;
+
+/**
+ * Projection of the number of users for one (role, active) combination
+ */
+public interface RoleActivityCountView {
+
+    UserRole getRole();
+
+    Boolean getActive();
+
+    long getTotal();
+}
@@ -0,0 +1,11 @@
+package com.sourabh.task_manager.repository.projection;
+
+/**
+ * Projection of the unique columns of a user
+ */
+public interface UserIdentityView {
+
+    String getUsername();
+
+    String getEmail();
+}
@@ -0,0 +1,15 @@
+package com.sourabh.task_manager.repository.projection;
+
+/**
+ * Projection of the name columns used to build the search index
+ */
+public interface UserNameView {
+
+    Long getId();
+
+    String getUsername();
+
+    String getFirstName();
+
+    String getLastName();
+}
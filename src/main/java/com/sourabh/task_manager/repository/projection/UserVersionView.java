@@ -0,0 +1,15 @@
+package com.sourabh.task_manager.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the columns that change whenever a user's response representation does
+ */
+public interface UserVersionView {
+
+    Long getId();
+
+    LocalDateTime getUpdatedAt();
+
+    LocalDateTime getLastLogin();
+}
@@ -0,0 +1,307 @@
+package com.sourabh.task_manager.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram inverted index over username, first name and last name.
+ * Candidates come from intersecting posting lists and are then verified with a
+ * real substring check, so results match {@code LOWER(col) LIKE '%term%'}.
+ */
+public class TrigramIndex {
+
+    private static final int USERNAME = 0;
+    private static final int GRAM = 3;
+
+    /**
+     * Hits are ordered by descending score, then ascending id
+     */
+    public static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::score).reversed()
+            .thenComparingLong(Hit::id);
+
+    /**
+     * A matching user and its relevance score
+     * @param id the user ID
+     * @param score higher is more relevant
+     */
+    public record Hit(long id, int score) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, String[]> documents = new HashMap<>();
+    private final Map<Long, Postings> postings = new HashMap<>();
+
+    /**
+     * Add or replace a user
+     * @param id the user ID
+     * @param username the username
+     * @param firstName the first name
+     * @param lastName the last name
+     */
+    public void put(long id, String username, String firstName, String lastName) {
+        String[] fields = {normalize(username), normalize(firstName), normalize(lastName)};
+        long[] grams = trigrams(fields);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            documents.put(id, fields);
+            for (long gram : grams) {
+                postings.computeIfAbsent(gram, key -> new Postings()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a user
+     * @param id the user ID
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Merge a partial index built over a disjoint set of users
+     * @param other the partial index
+     */
+    public void mergeFrom(TrigramIndex other) {
+        lock.writeLock().lock();
+        other.lock.readLock().lock();
+        try {
+            documents.putAll(other.documents);
+            other.postings.forEach((gram, list) ->
+                    postings.computeIfAbsent(gram, key -> new Postings()).addAll(list));
+        } finally {
+            other.lock.readLock().unlock();
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find users whose username, first name or last name contains the term
+     * @param term the search term, case-insensitive
+     * @return all hits in ranking order
+     */
+    public List<Hit> search(String term) {
+        String needle = normalize(term);
+        List<Hit> hits = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            if (needle.length() < GRAM) {
+                // Too short for a trigram lookup, scan the documents instead
+                documents.forEach((id, fields) -> addIfMatches(hits, id, fields, needle));
+            } else {
+                Postings[] lists = postingsFor(needle);
+                if (lists != null) {
+                    Postings smallest = lists[0];
+                    for (int i = 0; i < smallest.size; i++) {
+                        long id = smallest.ids[i];
+                        if (containedInAll(lists, id)) {
+                            addIfMatches(hits, id, documents.get(id), needle);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(RANKING);
+        return hits;
+    }
+
+    private Postings[] postingsFor(String needle) {
+        long[] grams = trigrams(new String[]{needle});
+        Postings[] lists = new Postings[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postings.get(grams[i]);
+            if (lists[i] == null) {
+                return null;
+            }
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+        return lists;
+    }
+
+    private static boolean containedInAll(Postings[] lists, long id) {
+        for (int i = 1; i < lists.length; i++) {
+            if (!lists[i].contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void addIfMatches(List<Hit> hits, long id, String[] fields, String needle) {
+        int score = score(fields, needle);
+        if (score >= 0) {
+            hits.add(new Hit(id, score));
+        }
+    }
+
+    /**
+     * Exact field match beats prefix match beats substring match,
+     * username matches weigh more and matching several fields adds a bonus
+     */
+    private static int score(String[] fields, String needle) {
+        int best = -1;
+        int matched = 0;
+        for (int field = 0; field < fields.length; field++) {
+            String value = fields[field];
+            int position = value.indexOf(needle);
+            if (position < 0) {
+                continue;
+            }
+            matched++;
+            int score = value.length() == needle.length() ? 100 : position == 0 ? 60 : 30;
+            if (field == USERNAME) {
+                score += 10;
+            }
+            best = Math.max(best, score);
+        }
+        return best < 0 ? -1 : best + (matched - 1) * 5;
+    }
+
+    private void removeInternal(long id) {
+        String[] fields = documents.remove(id);
+        if (fields == null) {
+            return;
+        }
+        for (long gram : trigrams(fields)) {
+            Postings list = postings.get(gram);
+            if (list != null && list.remove(id) && list.size == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Distinct trigrams of all fields, each packed as three UTF-16 units in a long
+     */
+    private static long[] trigrams(String[] fields) {
+        int total = 0;
+        for (String field : fields) {
+            total += Math.max(0, field.length() - GRAM + 1);
+        }
+        long[] grams = new long[total];
+        int count = 0;
+        for (String field : fields) {
+            for (int i = 0; i + GRAM <= field.length(); i++) {
+                grams[count++] = ((long) field.charAt(i) << 32)
+                        | ((long) field.charAt(i + 1) << 16)
+                        | field.charAt(i + 2);
+            }
+        }
+        Arrays.sort(grams);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || grams[distinct - 1] != grams[i]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    /**
+     * Sorted, growable list of user IDs
+     */
+    private static final class Postings {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            if (size == 0 || ids[size - 1] < id) {
+                ensureCapacity(size + 1);
+                ids[size++] = id;
+                return;
+            }
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            int insertAt = -position - 1;
+            ensureCapacity(size + 1);
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        void addAll(Postings other) {
+            long[] merged = new long[size + other.size];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < size && j < other.size) {
+                long a = ids[i];
+                long b = other.ids[j];
+                if (a < b) {
+                    merged[k++] = a;
+                    i++;
+                } else if (b < a) {
+                    merged[k++] = b;
+                    j++;
+                } else {
+                    merged[k++] = a;
+                    i++;
+                    j++;
+                }
+            }
+            while (i < size) {
+                merged[k++] = ids[i++];
+            }
+            while (j < other.size) {
+                merged[k++] = other.ids[j++];
+            }
+            ids = merged;
+            size = k;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(capacity, ids.length * 2));
+            }
+        }
+    }
+}
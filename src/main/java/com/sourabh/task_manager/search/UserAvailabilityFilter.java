@@ -0,0 +1,242 @@
+package com.sourabh.task_manager.search;
+
+import com.sourabh.task_manager.repository.UserBatchRepository;
+import com.sourabh.task_manager.repository.UserRepository;
+import com.sourabh.task_manager.util.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Bloom filters over every username and email. A definite miss means the
+ * value is free without asking the database; a possible hit still needs an
+ * exists query. New values are added as users are saved, both before and
+ * after the write commits, and on other nodes through {@link UserIdentitySync};
+ * deleted and changed values are only cleared by the periodic rebuild.
+ */
+@Slf4j
+@Component
+public class UserAvailabilityFilter implements DisposableBean {
+
+    private static final String USERNAME = "username";
+    private static final String EMAIL = "email";
+
+    private final UserRepository userRepository;
+    private final UserBatchRepository userBatchRepository;
+    private final UserAvailabilityProperties properties;
+    private final CheckMeters usernameMeters;
+    private final CheckMeters emailMeters;
+
+    private final Object monitor = new Object();
+    private final AtomicBoolean building = new AtomicBoolean();
+    private final ExecutorService builder;
+    private volatile boolean stopping;
+
+    private volatile Filters current;
+    /**
+     * Filters being loaded; saves made during the load go into both
+     */
+    private Filters next;
+
+    public UserAvailabilityFilter(UserRepository userRepository,
+                                  UserBatchRepository userBatchRepository,
+                                  UserAvailabilityProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.userBatchRepository = userBatchRepository;
+        this.properties = properties;
+        this.usernameMeters = new CheckMeters(USERNAME, meterRegistry);
+        this.emailMeters = new CheckMeters(EMAIL, meterRegistry);
+        this.builder = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-availability-filter-build");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("user.availability.bloom.fpp", this, f -> f.falsePositiveRate(Filters::usernames))
+                .tag("field", USERNAME)
+                .description("Estimated false-positive rate of the availability filter")
+                .register(meterRegistry);
+        Gauge.builder("user.availability.bloom.fpp", this, f -> f.falsePositiveRate(Filters::emails))
+                .tag("field", EMAIL)
+                .description("Estimated false-positive rate of the availability filter")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (properties.isEnabled()) {
+            builder.execute(this::rebuild);
+        }
+    }
+
+    /**
+     * Reload both filters from the database and swap them in, dropping values of deleted users
+     */
+    @Scheduled(fixedDelayString = "${app.search.availability.rebuild-interval:PT6H}",
+            initialDelayString = "${app.search.availability.rebuild-interval:PT6H}")
+    public void rebuild() {
+        if (!properties.isEnabled() || stopping || !building.compareAndSet(false, true)) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            long capacity = Math.max(properties.getMinimumCapacity(),
+                    (long) (userRepository.count() * properties.getHeadroom()));
+            Filters built = new Filters(capacity, properties.getFalsePositiveRate());
+            synchronized (monitor) {
+                next = built;
+            }
+            userBatchRepository.forEachIdentity(built::put);
+            synchronized (monitor) {
+                current = built;
+                next = null;
+            }
+            log.info("User availability filters built for {} users in {} ms",
+                    capacity, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            synchronized (monitor) {
+                next = null;
+            }
+            if (stopping) {
+                // The database is going away with the context; the failure is expected
+                log.debug("User availability filter build abandoned on shutdown", e);
+            } else {
+                log.error("Failed to build user availability filters, checks will use the database", e);
+            }
+        } finally {
+            building.set(false);
+        }
+    }
+
+    /**
+     * @param username the username to check
+     * @return false only if no user has this username
+     */
+    public boolean mightContainUsername(String username) {
+        Filters filters = current;
+        return usernameMeters.record(filters == null || filters.usernames().mightContain(username));
+    }
+
+    /**
+     * @param email the email to check
+     * @return false only if no user has this email
+     */
+    public boolean mightContainEmail(String email) {
+        Filters filters = current;
+        return emailMeters.record(filters == null || filters.emails().mightContain(email));
+    }
+
+    /**
+     * Count a possible username hit that the database then reported as absent
+     */
+    public void recordUsernameFalsePositive() {
+        if (current != null) {
+            usernameMeters.falsePositive.increment();
+        }
+    }
+
+    /**
+     * Count a possible email hit that the database then reported as absent
+     */
+    public void recordEmailFalsePositive() {
+        if (current != null) {
+            emailMeters.falsePositive.increment();
+        }
+    }
+
+    /**
+     * Add a user's username and email. Call before the write commits: a
+     * rolled-back write only leaves a false positive, while adding after
+     * commit would briefly report a taken value as free. Follow up with
+     * {@link #putCommitted} so a rebuild that ran meanwhile keeps the value.
+     */
+    public void put(String username, String email) {
+        synchronized (monitor) {
+            if (current != null) {
+                current.put(username, email);
+            }
+            if (next != null) {
+                next.put(username, email);
+            }
+        }
+    }
+
+    /**
+     * Add a user's username and email again once the write commits (at once
+     * outside a transaction). A rebuild that started before the put and scanned
+     * before the commit neither saw the row nor received the put; this repeats
+     * it into whatever filters are current by then.
+     */
+    public void putCommitted(String username, String email) {
+        TransactionCallbacks.afterCommit(() -> put(username, email));
+    }
+
+    /**
+     * Stop a running build before the repositories it reads from are closed
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        stopping = true;
+        builder.shutdownNow();
+        builder.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private double falsePositiveRate(Function<Filters, BloomFilter> field) {
+        Filters filters = current;
+        return filters == null ? Double.NaN : field.apply(filters).expectedFalsePositiveRate();
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter emails) {
+
+        private Filters(long capacity, double falsePositiveRate) {
+            this(new BloomFilter(capacity, falsePositiveRate), new BloomFilter(capacity, falsePositiveRate));
+        }
+
+        private void put(String username, String email) {
+            usernames.put(username);
+            emails.put(email);
+        }
+    }
+
+    /**
+     * user.availability.bloom.checks counters for one field, by result
+     */
+    private static final class CheckMeters {
+
+        private final Counter absent;
+        private final Counter maybePresent;
+        private final Counter falsePositive;
+
+        private CheckMeters(String field, MeterRegistry meterRegistry) {
+            this.absent = counter(field, "absent", meterRegistry);
+            this.maybePresent = counter(field, "maybe_present", meterRegistry);
+            this.falsePositive = counter(field, "false_positive", meterRegistry);
+        }
+
+        private boolean record(boolean mightContain) {
+            (mightContain ? maybePresent : absent).increment();
+            return mightContain;
+        }
+
+        private static Counter counter(String field, String result, MeterRegistry meterRegistry) {
+            return Counter.builder("user.availability.bloom.checks")
+                    .tag("field", field)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
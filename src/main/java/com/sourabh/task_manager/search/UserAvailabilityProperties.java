@@ -0,0 +1,34 @@
+package com.sourabh.task_manager.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the Bloom filters in front of username/email availability checks
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.search.availability")
+public class UserAvailabilityProperties {
+
+    /**
+     * When disabled, availability checks always query the database
+     */
+    private boolean enabled = true;
+
+    /**
+     * Target false-positive rate once the filter holds its sized capacity
+     */
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * Capacity as a multiple of the user count at build time, leaving room for new users
+     */
+    private double headroom = 2.0;
+
+    /**
+     * Capacity used when the table is small or empty
+     */
+    private long minimumCapacity = 100_000;
+}
@@ -0,0 +1,51 @@
+package com.sourabh.task_manager.search;
+
+import com.sourabh.task_manager.cache.UserCacheInvalidator;
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import com.sourabh.task_manager.repository.UserRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies users created, renamed or deleted on other nodes to this node's
+ * {@link UserSearchIndex} and {@link UserAvailabilityFilter}. Changes arrive
+ * over the invalidation bus as user IDs; the users are reloaded in one query
+ * per batch. A lost message leaves the index stale and the filter reporting a
+ * taken value as free until the next rebuild.
+ */
+@Component
+public class UserIdentitySync {
+
+    private final UserRepository userRepository;
+    private final UserSearchIndex userSearchIndex;
+    private final UserAvailabilityFilter userAvailabilityFilter;
+
+    public UserIdentitySync(UserRepository userRepository,
+                            UserSearchIndex userSearchIndex,
+                            UserAvailabilityFilter userAvailabilityFilter,
+                            UserCacheInvalidator userCacheInvalidator) {
+        this.userRepository = userRepository;
+        this.userSearchIndex = userSearchIndex;
+        this.userAvailabilityFilter = userAvailabilityFilter;
+        userCacheInvalidator.subscribeIdentityChanges(this::apply);
+    }
+
+    void apply(List<Long> ids) {
+        Map<Long, UserResponseDTO> users = userRepository.findUserDTOsByIdIn(ids).stream()
+                .collect(Collectors.toMap(UserResponseDTO::getId, Function.identity()));
+        for (Long id : ids) {
+            UserResponseDTO user = users.get(id);
+            if (user == null) {
+                userSearchIndex.remove(id);
+            } else {
+                userSearchIndex.put(id, user.getUsername(), user.getFirstName(), user.getLastName());
+                // Old values stay in the filter as false positives until the rebuild
+                userAvailabilityFilter.put(user.getUsername(), user.getEmail());
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.sourabh.task_manager.search;
+
+import com.sourabh.task_manager.repository.UserRepository;
+import com.sourabh.task_manager.repository.projection.IdRangeView;
+import com.sourabh.task_manager.repository.projection.UserNameView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Keeps a {@link TrigramIndex} of all users in sync with the database.
+ * The index is loaded in parallel after startup; until it is ready
+ * {@link #search(String)} returns empty and callers fall back to SQL.
+ */
+@Slf4j
+@Component
+public class UserSearchIndex implements DisposableBean {
+
+    private final UserRepository userRepository;
+    private final UserSearchProperties properties;
+
+    private final Object monitor = new Object();
+    private final AtomicBoolean building = new AtomicBoolean();
+    private final ExecutorService builder;
+    private volatile boolean stopping;
+
+    private volatile TrigramIndex index;
+    /**
+     * Changes made while a build is running, replayed once it completes
+     */
+    private List<Consumer<TrigramIndex>> pendingChanges;
+
+    public UserSearchIndex(UserRepository userRepository, UserSearchProperties properties) {
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.builder = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-search-index-build");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (properties.isEnabled()) {
+            builder.execute(this::rebuild);
+        }
+    }
+
+    /**
+     * Load the whole users table into a fresh index and swap it in
+     */
+    public void rebuild() {
+        if (stopping || !building.compareAndSet(false, true)) {
+            return;
+        }
+        synchronized (monitor) {
+            pendingChanges = new ArrayList<>();
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            TrigramIndex built = load();
+            synchronized (monitor) {
+                pendingChanges.forEach(change -> change.accept(built));
+                pendingChanges = null;
+                index = built;
+            }
+            log.info("User search index built with {} users in {} ms",
+                    built.size(), System.currentTimeMillis() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            discardPendingChanges();
+        } catch (Exception e) {
+            discardPendingChanges();
+            if (stopping) {
+                // The database is going away with the context; the failure is expected
+                log.debug("User search index build abandoned on shutdown", e);
+            } else {
+                log.error("Failed to build user search index, searches will use the database", e);
+            }
+        } finally {
+            building.set(false);
+        }
+    }
+
+    /**
+     * Search the index
+     * @param term the search term
+     * @return ranked hits, or empty if the index is not ready
+     */
+    public Optional<List<TrigramIndex.Hit>> search(String term) {
+        TrigramIndex current = index;
+        return current == null ? Optional.empty() : Optional.of(current.search(term));
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    /**
+     * Add or refresh a user after it was saved
+     */
+    public void put(Long id, String username, String firstName, String lastName) {
+        apply(target -> target.put(id, username, firstName, lastName));
+    }
+
+    /**
+     * Drop a user after it was deleted
+     */
+    public void remove(Long id) {
+        apply(target -> target.remove(id));
+    }
+
+    private void apply(Consumer<TrigramIndex> change) {
+        synchronized (monitor) {
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+            if (index != null) {
+                change.accept(index);
+            }
+        }
+    }
+
+    /**
+     * Stop a running build before the repositories it reads from are closed
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        stopping = true;
+        builder.shutdownNow();
+        builder.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void discardPendingChanges() {
+        synchronized (monitor) {
+            pendingChanges = null;
+        }
+    }
+
+    private TrigramIndex load() throws InterruptedException, ExecutionException {
+        TrigramIndex built = new TrigramIndex();
+        IdRangeView range = userRepository.findIdRange();
+        if (range == null || range.getMinId() == null) {
+            return built;
+        }
+
+        int threads = properties.getBuildThreads() > 0
+                ? properties.getBuildThreads()
+                : Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            ExecutorCompletionService<TrigramIndex> completion = new ExecutorCompletionService<>(executor);
+            List<long[]> chunks = new ArrayList<>();
+            for (long from = range.getMinId(); from <= range.getMaxId(); from += properties.getChunkSize()) {
+                chunks.add(new long[]{from, Math.min(range.getMaxId(), from + properties.getChunkSize() - 1)});
+            }
+            chunks.forEach(chunk -> completion.submit(() -> loadChunk(chunk[0], chunk[1])));
+
+            // Merge partial indexes as they complete
+            for (int i = 0; i < chunks.size(); i++) {
+                built.mergeFrom(completion.take().get());
+            }
+            return built;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private TrigramIndex loadChunk(long fromId, long toId) {
+        TrigramIndex partial = new TrigramIndex();
+        for (UserNameView user : userRepository.findNamesByIdBetween(fromId, toId)) {
+            partial.put(user.getId(), user.getUsername(), user.getFirstName(), user.getLastName());
+        }
+        return partial;
+    }
+}
@@ -0,0 +1,29 @@
+package com.sourabh.task_manager.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the in-memory user search index
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.search.index")
+public class UserSearchProperties {
+
+    /**
+     * When disabled, searches always use the database query
+     */
+    private boolean enabled = true;
+
+    /**
+     * Threads loading the index at startup, 0 means one per available CPU
+     */
+    private int buildThreads = 0;
+
+    /**
+     * Width of the ID range each build task loads
+     */
+    private int chunkSize = 10_000;
+}
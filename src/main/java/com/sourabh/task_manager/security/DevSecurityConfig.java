@@ -1,14 +1,20 @@
 package com.sourabh.task_manager.security;
 
+import com.sourabh.task_manager.enums.UserRole;
+import jakarta.servlet.DispatcherType;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
@@ -20,11 +26,24 @@ public class DevSecurityConfig {
         return new BCryptPasswordEncoder();
     }
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   JwtTokenService jwtTokenService) throws Exception {
        http.authorizeHttpRequests(auth->auth
+               // Let rejections render as 403 instead of re-challenging the /error dispatch with 401
+               .dispatcherTypeMatchers(DispatcherType.ERROR).permitAll()
                .requestMatchers("/api/v1/auth/register").permitAll()
+               .requestMatchers("/api/users/login", "/api/users/refresh").permitAll()
+               // Only admins hand out roles, or any account could promote itself past the rules below
+               .requestMatchers(HttpMethod.PATCH, "/api/users/{id}/role", "/api/users/bulk/role")
+                       .hasRole(UserRole.ADMIN.name())
+               // Operational endpoints read and reset shared state (caches, statement profile): admins only
+               .requestMatchers(EndpointRequest.toAnyEndpoint().excluding("health", "prometheus"))
+                       .hasRole(UserRole.ADMIN.name())
                .anyRequest().authenticated())
                .csrf(csrf->csrf.disable())
+               .sessionManagement(session->session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+               // Bearer tokens are checked first so Basic auth (DB lookup + BCrypt) is only a fallback
+               .addFilterBefore(new JwtAuthenticationFilter(jwtTokenService), BasicAuthenticationFilter.class)
                .httpBasic(Customizer.withDefaults());
        return http.build();
     }
@@ -0,0 +1,32 @@
+package com.sourabh.task_manager.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the signed access and refresh tokens issued on login
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.security.jwt")
+public class JwtProperties {
+
+    /**
+     * Base64 encoded HMAC secret, at least 256 bits
+     */
+    private String secret;
+
+    private String issuer = "task-manager";
+
+    private Duration accessTokenTtl = Duration.ofMinutes(15);
+
+    private Duration refreshTokenTtl = Duration.ofDays(7);
+
+    /**
+     * Redeemed refresh token IDs remembered (each until its token expires) to reject replays
+     */
+    private long maximumRedeemedRefreshTokens = 1_000_000;
+}
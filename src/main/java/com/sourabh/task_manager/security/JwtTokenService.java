@@ -0,0 +1,135 @@
+package com.sourabh.task_manager.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Issues and validates HMAC signed JWTs.
+ * Validation is purely in memory: no database lookup and no password hashing.
+ * Refresh tokens are single use: each redemption records the token ID until the
+ * token expires, so a replayed refresh token is rejected. The record is kept on
+ * the node that redeemed the token; with several nodes, route /api/users/refresh
+ * to one node or share the record.
+ */
+@Service
+public class JwtTokenService {
+
+    public static final String TOKEN_TYPE_ACCESS = "access";
+    public static final String TOKEN_TYPE_REFRESH = "refresh";
+
+    private static final String CLAIM_ROLES = "roles";
+    private static final String CLAIM_TYPE = "typ";
+
+    private final JwtProperties properties;
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final Cache<String, Instant> redeemedRefreshTokens;
+
+    public JwtTokenService(JwtProperties properties) {
+        this.properties = properties;
+        if (properties.getSecret() == null || properties.getSecret().isBlank()) {
+            throw new IllegalStateException("app.security.jwt.secret is not set, provide it through JWT_SECRET");
+        }
+        this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(properties.getSecret()));
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .requireIssuer(properties.getIssuer())
+                .build();
+        this.redeemedRefreshTokens = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumRedeemedRefreshTokens())
+                .expireAfter(Expiry.creating((String id, Instant expiresAt) ->
+                        Duration.between(Instant.now(), expiresAt).plusSeconds(1)))
+                .build();
+    }
+
+    /**
+     * Issue a new access/refresh token pair
+     * @param username the token subject
+     * @param roles role names, e.g. "ROLE_USER"
+     * @return the signed tokens together with their lifetimes
+     */
+    public Map<String, Object> issueTokens(String username, Collection<String> roles) {
+        return Map.of(
+                "accessToken", issueToken(username, roles, TOKEN_TYPE_ACCESS, properties.getAccessTokenTtl()),
+                "refreshToken", issueToken(username, roles, TOKEN_TYPE_REFRESH, properties.getRefreshTokenTtl()),
+                "tokenType", "Bearer",
+                "expiresIn", properties.getAccessTokenTtl().toSeconds());
+    }
+
+    /**
+     * Validate a token's signature, issuer, expiry and type
+     * @param token the compact JWT
+     * @param expectedType {@link #TOKEN_TYPE_ACCESS} or {@link #TOKEN_TYPE_REFRESH}
+     * @return the claims if the token is valid
+     */
+    public Optional<Claims> parse(String token, String expectedType) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (!expectedType.equals(claims.get(CLAIM_TYPE, String.class))) {
+                return Optional.empty();
+            }
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Validate a refresh token and use it up, so it cannot be exchanged again
+     * @param token the compact refresh JWT
+     * @return the claims if the token is valid and was not redeemed before
+     */
+    public Optional<Claims> redeemRefreshToken(String token) {
+        return parse(token, TOKEN_TYPE_REFRESH).filter(claims -> claims.getId() != null
+                && redeemedRefreshTokens.asMap().putIfAbsent(claims.getId(), claims.getExpiration().toInstant()) == null);
+    }
+
+    /**
+     * Extract granted authorities from validated claims
+     * @param claims token claims
+     * @return authorities carried by the token
+     */
+    public List<GrantedAuthority> getAuthorities(Claims claims) {
+        List<?> roles = claims.get(CLAIM_ROLES, List.class);
+        if (roles == null) {
+            return List.of();
+        }
+        return roles.stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority(role.toString()))
+                .toList();
+    }
+
+    private String issueToken(String username, Collection<String> roles, String type, Duration ttl) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .issuer(properties.getIssuer())
+                .subject(username)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(ttl)))
+                .claim(CLAIM_TYPE, type)
+                .claim(CLAIM_ROLES, List.copyOf(roles))
+                .signWith(key)
+                .compact();
+    }
+}
@@ -0,0 +1,147 @@
+package com.sourabh.task_manager.security;
+
+import com.sourabh.task_manager.cache.UserCacheInvalidator;
+import com.sourabh.task_manager.repository.UserBatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Write-behind buffer for last-login timestamps. Logins only update an
+ * in-memory map, keeping the latest timestamp per user; a single background
+ * thread writes the map out in batched UPDATEs on an interval, when it grows
+ * past a threshold, and once more on shutdown.
+ */
+@Slf4j
+@Component
+public class LastLoginBuffer implements DisposableBean {
+
+    private final UserBatchRepository userBatchRepository;
+    private final UserCacheInvalidator userCacheInvalidator;
+    private final LastLoginBufferProperties properties;
+    private final ConcurrentHashMap<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter failedCounter;
+
+    public LastLoginBuffer(UserBatchRepository userBatchRepository,
+                           UserCacheInvalidator userCacheInvalidator,
+                           LastLoginBufferProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.userBatchRepository = userBatchRepository;
+        this.userCacheInvalidator = userCacheInvalidator;
+        this.properties = properties;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "last-login-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.flushTimer = Timer.builder("user.last_login.flush")
+                .description("Time to write buffered last-login timestamps")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("user.last_login.flushed")
+                .description("Last-login timestamps written")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("user.last_login.flush.failures")
+                .register(meterRegistry);
+        Gauge.builder("user.last_login.pending", pending, Map::size)
+                .description("Users with a last-login timestamp not yet written")
+                .register(meterRegistry);
+
+        long intervalMillis = properties.getFlushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Buffer a login; an earlier timestamp never replaces a later one
+     * @param userId the user ID
+     * @param loginTime the login time
+     */
+    public void record(Long userId, LocalDateTime loginTime) {
+        merge(userId, loginTime);
+        if (pending.size() >= properties.getFlushThreshold() && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flushQuietly);
+        }
+    }
+
+    /**
+     * Number of users waiting to be written
+     * @return buffered user count
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Write out everything buffered so far. Entries that fail to write are
+     * put back so the next flush retries them.
+     * @return number of timestamps written
+     */
+    public int flush() {
+        flushRequested.set(false);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, LocalDateTime> batch = new HashMap<>();
+        for (Long userId : pending.keySet()) {
+            // remove() hands over the latest value; a login after this starts a new entry
+            LocalDateTime loginTime = pending.remove(userId);
+            if (loginTime != null) {
+                batch.put(userId, loginTime);
+            }
+        }
+
+        try {
+            flushTimer.record(() -> userBatchRepository.updateLastLogins(batch, properties.getBatchSize()));
+            flushedCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            // Put back without triggering another flush, the next interval retries
+            batch.forEach(this::merge);
+            throw e;
+        }
+        // Cached profiles carry lastLogin; only loads of these users are kept from caching meanwhile
+        batch.keySet().forEach(userId -> userCacheInvalidator.invalidate(userId, null));
+        return batch.size();
+    }
+
+    private void merge(Long userId, LocalDateTime loginTime) {
+        pending.merge(userId, loginTime, (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {} buffered last-login timestamps, will retry", pending.size(), e);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(properties.getFlushInterval().toMillis() + 5_000, TimeUnit.MILLISECONDS);
+        try {
+            log.info("Wrote {} buffered last-login timestamps on shutdown", flush());
+        } catch (RuntimeException e) {
+            log.error("Lost {} buffered last-login timestamps on shutdown", pending.size(), e);
+        }
+    }
+}
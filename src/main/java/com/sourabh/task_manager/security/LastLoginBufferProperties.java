@@ -0,0 +1,31 @@
+package com.sourabh.task_manager.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the write-behind buffer of last-login timestamps
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.security.last-login")
+public class LastLoginBufferProperties {
+
+    /**
+     * Time between flushes of buffered timestamps
+     */
+    private Duration flushInterval = Duration.ofSeconds(5);
+
+    /**
+     * Buffered users that trigger a flush before the interval elapses
+     */
+    private int flushThreshold = 5_000;
+
+    /**
+     * Rows per JDBC batch when flushing
+     */
+    private int batchSize = 500;
+}
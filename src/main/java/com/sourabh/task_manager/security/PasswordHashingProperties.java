@@ -0,0 +1,31 @@
+package com.sourabh.task_manager.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Sizing for the dedicated password hashing pool
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.security.password-hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * Worker threads, 0 means one per available CPU
+     */
+    private int threads = 0;
+
+    /**
+     * Hashing requests allowed to wait for a worker before new ones are rejected
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * Value of the Retry-After header sent when the queue is full
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,61 @@
+package com.sourabh.task_manager.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded, time-limited cache of authentication details keyed by username.
+ * Hit/miss/eviction counts are published as the "userDetails" cache metrics.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final Cache<String, UserDetails> cache;
+
+    public UserDetailsCache(UserDetailsCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userDetails");
+    }
+
+    /**
+     * Get the cached details, loading them on a miss
+     * @param username the username
+     * @param loader loads the details, returning empty if the user does not exist
+     * @return a private copy of the details, safe for the caller to erase credentials on
+     */
+    public Optional<UserDetails> get(String username, Function<String, Optional<? extends UserDetails>> loader) {
+        UserDetails cached = cache.get(username, key -> loader.apply(key).map(this::snapshot).orElse(null));
+        return Optional.ofNullable(cached).map(details -> User.withUserDetails(details).build());
+    }
+
+    /**
+     * Drop the entry for a user whose credentials or roles changed
+     * @param username the username
+     */
+    public void evict(String username) {
+        if (username != null) {
+            cache.invalidate(username);
+        }
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    private UserDetails snapshot(UserDetails details) {
+        // Never cache the managed entity itself
+        return User.withUserDetails(details).build();
+    }
+}
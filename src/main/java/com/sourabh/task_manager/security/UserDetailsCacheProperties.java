@@ -0,0 +1,20 @@
+package com.sourabh.task_manager.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-memory cache in front of the UserDetailsService
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "app.security.user-details-cache")
+public class UserDetailsCacheProperties {
+
+    private long maximumSize = 10_000;
+
+    private Duration ttl = Duration.ofMinutes(5);
+}
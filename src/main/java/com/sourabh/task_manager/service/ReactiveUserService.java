@@ -0,0 +1,36 @@
+package com.sourabh.task_manager.service;
+
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import com.sourabh.task_manager.enums.UserRole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking variants of the {@link UserService} reads. No thread waits on
+ * the database: results are delivered once the R2DBC driver has them.
+ */
+public interface ReactiveUserService {
+
+    /**
+     * @return the user, or an error with ResourceNotFoundException
+     */
+    Mono<UserResponseDTO> getUserById(Long id);
+
+    Mono<UserResponseDTO> getUserByUsername(String username);
+
+    Mono<Page<UserResponseDTO>> getAllUsers(Pageable pageable);
+
+    Mono<List<UserResponseDTO>> getActiveUsers(boolean basic);
+
+    Mono<List<UserResponseDTO>> getUsersByRole(UserRole role, boolean basic);
+
+    /**
+     * Ranked by the in-memory search index when it is ready, else a name LIKE scan
+     */
+    Mono<Page<UserResponseDTO>> searchUsers(String searchTerm, Pageable pageable);
+
+    Mono<List<UserResponseDTO>> getInactiveUsers(int daysSinceLastLogin);
+}
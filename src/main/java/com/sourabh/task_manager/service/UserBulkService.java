@@ -0,0 +1,57 @@
+package com.sourabh.task_manager.service;
+
+import com.sourabh.task_manager.dto.request.BulkUserUpdateDTO;
+import com.sourabh.task_manager.dto.request.UserRegistrationDTO;
+import com.sourabh.task_manager.dto.response.BulkRegistrationResponseDTO;
+import com.sourabh.task_manager.dto.response.BulkUpdateResponseDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for operations on many users at once
+ */
+public interface UserBulkService {
+
+    /**
+     * Register many users. Each row is validated on its own; invalid rows and
+     * rows clashing with existing users are reported and skipped, the rest are
+     * inserted together.
+     * @param registrations the users to register
+     * @return the outcome of every row, in request order
+     */
+    BulkRegistrationResponseDTO registerUsers(List<UserRegistrationDTO> registrations);
+
+    /*
+     * Bulk updates select users by ID list or filter and change them with one
+     * UPDATE per chunk. Each chunk commits on its own, so a failure part-way
+     * leaves earlier chunks applied; repeating the request is safe.
+     */
+
+    /**
+     * Activate the selected users
+     * @param request IDs or filter selecting the users
+     * @return matched and changed user counts
+     */
+    BulkUpdateResponseDTO activateUsers(BulkUserUpdateDTO request);
+
+    /**
+     * Deactivate the selected users
+     * @param request IDs or filter selecting the users
+     * @return matched and changed user counts
+     */
+    BulkUpdateResponseDTO deactivateUsers(BulkUserUpdateDTO request);
+
+    /**
+     * Mark the selected users' emails as verified
+     * @param request IDs or filter selecting the users
+     * @return matched and changed user counts
+     */
+    BulkUpdateResponseDTO verifyEmails(BulkUserUpdateDTO request);
+
+    /**
+     * Give the selected users a new role
+     * @param request IDs or filter selecting the users, and the new role
+     * @return matched and changed user counts
+     */
+    BulkUpdateResponseDTO updateUserRoles(BulkUserUpdateDTO request);
+}
@@ -0,0 +1,23 @@
+package com.sourabh.task_manager.service;
+
+import com.sourabh.task_manager.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for streaming bulk user exports
+ */
+public interface UserExportService {
+
+    /**
+     * Stream every user to the output in the given format.
+     * Rows are read through a database cursor and written as they arrive,
+     * so memory use does not grow with the table size.
+     * @param format the export format
+     * @param outputStream destination, not closed by this method
+     * @return number of users written
+     * @throws IOException if writing to the output fails
+     */
+    long exportUsers(ExportFormat format, OutputStream outputStream) throws IOException;
+}
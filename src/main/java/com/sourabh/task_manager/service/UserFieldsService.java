@@ -0,0 +1,37 @@
+package com.sourabh.task_manager.service;
+
+import com.sourabh.task_manager.dto.request.UserFieldSet;
+import com.sourabh.task_manager.enums.UserRole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link UserService} reads narrowed to a sparse fieldset (?fields=).
+ * Only the selected columns are read, and each user is returned as a map
+ * holding just the requested properties.
+ */
+public interface UserFieldsService {
+
+    /**
+     * @throws com.sourabh.task_manager.util.ResourceNotFoundException if the user does not exist
+     */
+    Map<String, Object> getUserById(Long id, UserFieldSet fields);
+
+    Map<String, Object> getUserByUsername(String username, UserFieldSet fields);
+
+    Page<Map<String, Object>> getAllUsers(Pageable pageable, UserFieldSet fields);
+
+    List<Map<String, Object>> getActiveUsers(UserFieldSet fields);
+
+    List<Map<String, Object>> getUsersByRole(UserRole role, UserFieldSet fields);
+
+    /**
+     * Ranked by the in-memory search index when it is ready, else a name LIKE scan
+     */
+    Page<Map<String, Object>> searchUsers(String searchTerm, Pageable pageable, UserFieldSet fields);
+
+    List<Map<String, Object>> getInactiveUsers(int daysSinceLastLogin, UserFieldSet fields);
+}
@@ -3,12 +3,14 @@ package com.sourabh.task_manager.service;
 import com.sourabh.task_manager.dto.request.UserLoginDTO;
 import com.sourabh.task_manager.dto.request.UserRegistrationDTO;
 import com.sourabh.task_manager.dto.request.UserUpdateDTO;
+import com.sourabh.task_manager.dto.response.CursorPageResponseDTO;
 import com.sourabh.task_manager.dto.response.UserResponseDTO;
 import com.sourabh.task_manager.enums.UserRole;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Service interface for User-related business operations
@@ -36,6 +38,20 @@ public interface UserService {
      */
     UserResponseDTO getUserByUsername(String username);
 
+    /**
+     * Current ETag of a user, from the cache or a version-only query; never loads the profile
+     * @param id user ID
+     * @return the quoted ETag, or empty if the user does not exist
+     */
+    Optional<String> getUserETag(Long id);
+
+    /**
+     * Current ETag of a user by username
+     * @param username the username
+     * @return the quoted ETag, or empty if the user does not exist
+     */
+    Optional<String> getUserETagByUsername(String username);
+
     /**
      * Get user by email
      * @param email the email
@@ -56,12 +72,31 @@ public interface UserService {
      */
     Page<UserResponseDTO> getAllUsers(Pageable pageable);
 
+    /**
+     * Get all users with keyset (cursor) pagination
+     * @param after cursor from the previous page, or null for the first page
+     * @param size page size
+     * @param sortBy sort property, ignored when a cursor is given
+     * @param sortDir sort direction, ignored when a cursor is given
+     * @param includeTotal whether to run the extra count query
+     * @return page of user response DTOs with the next cursor
+     */
+    CursorPageResponseDTO<UserResponseDTO> getAllUsersByCursor(String after, int size, String sortBy,
+                                                               String sortDir, boolean includeTotal);
+
     /**
      * Get all active users
      * @return list of active user response DTOs
      */
     List<UserResponseDTO> getActiveUsers();
 
+    /**
+     * Get all active users with basic fields only
+     * (id, username, first/last name, role, active flag)
+     * @return list of basic active user response DTOs
+     */
+    List<UserResponseDTO> getActiveUsersBasic();
+
     /**
      * Get users by role
      * @param role the user role
@@ -69,6 +104,13 @@ public interface UserService {
      */
     List<UserResponseDTO> getUsersByRole(UserRole role);
 
+    /**
+     * Get users by role with basic fields only
+     * @param role the user role
+     * @return list of basic user response DTOs
+     */
+    List<UserResponseDTO> getUsersByRoleBasic(UserRole role);
+
     /**
      * Search users by name
      * @param searchTerm search term
@@ -77,6 +119,17 @@ public interface UserService {
      */
     Page<UserResponseDTO> searchUsers(String searchTerm, Pageable pageable);
 
+    /**
+     * Search users by name with keyset (cursor) pagination
+     * @param searchTerm search term
+     * @param after cursor from the previous page, or null for the first page
+     * @param size page size
+     * @param includeTotal whether to run the extra count query
+     * @return page of user response DTOs with the next cursor
+     */
+    CursorPageResponseDTO<UserResponseDTO> searchUsersByCursor(String searchTerm, String after, int size,
+                                                               boolean includeTotal);
+
     /**
      * Update user information
      * @param id user ID
@@ -142,6 +195,13 @@ public interface UserService {
      */
     boolean validateLogin(UserLoginDTO loginDTO);
 
+    /**
+     * Authenticate user login credentials
+     * @param loginDTO login credentials
+     * @return the authenticated user, or empty if the credentials are invalid
+     */
+    Optional<UserResponseDTO> authenticate(UserLoginDTO loginDTO);
+
     /**
      * Check if username is available
      * @param username the username to check
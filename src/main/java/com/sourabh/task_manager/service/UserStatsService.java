@@ -0,0 +1,53 @@
+package com.sourabh.task_manager.service;
+
+import com.sourabh.task_manager.enums.UserRole;
+
+import java.util.Map;
+
+/**
+ * Service interface for the user counters behind GET /api/users/stats.
+ * Counters live in memory, are adjusted by the write paths after commit
+ * and are periodically reconciled against the database.
+ */
+public interface UserStatsService {
+
+    /**
+     * Current user statistics, served from memory
+     * @return totalUsers, activeUsers and per-role counts
+     */
+    Map<String, Object> getUserStats();
+
+    /**
+     * Count a newly registered user
+     * @param role the user's role
+     * @param active whether the user is active
+     */
+    void recordCreated(UserRole role, boolean active);
+
+    /**
+     * Stop counting a deleted user
+     * @param role the user's role
+     * @param active whether the user was active
+     */
+    void recordDeleted(UserRole role, boolean active);
+
+    /**
+     * Move a user between the active and inactive counters
+     * @param role the user's role
+     * @param active the new active flag
+     */
+    void recordActiveChanged(UserRole role, boolean active);
+
+    /**
+     * Move a user between role counters
+     * @param previousRole the role before the change
+     * @param newRole the role after the change
+     * @param active whether the user is active
+     */
+    void recordRoleChanged(UserRole previousRole, UserRole newRole, boolean active);
+
+    /**
+     * Recount all users with one grouped query and correct the in-memory counters
+     */
+    void reconcile();
+}
@@ -0,0 +1,114 @@
+package com.sourabh.task_manager.service.impl;
+
+import com.sourabh.task_manager.cache.UserResponseCache;
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import com.sourabh.task_manager.enums.UserRole;
+import com.sourabh.task_manager.repository.ReactiveUserRepository;
+import com.sourabh.task_manager.search.TrigramIndex;
+import com.sourabh.task_manager.search.UserSearchIndex;
+import com.sourabh.task_manager.service.ReactiveUserService;
+import com.sourabh.task_manager.util.ResourceNotFoundException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class ReactiveUserServiceImpl implements ReactiveUserService {
+
+    private final ReactiveUserRepository reactiveUserRepository;
+    private final UserResponseCache userResponseCache;
+    private final UserSearchIndex userSearchIndex;
+
+    public ReactiveUserServiceImpl(ReactiveUserRepository reactiveUserRepository,
+                                   UserResponseCache userResponseCache,
+                                   UserSearchIndex userSearchIndex) {
+        this.reactiveUserRepository = reactiveUserRepository;
+        this.userResponseCache = userResponseCache;
+        this.userSearchIndex = userSearchIndex;
+    }
+
+    @Override
+    public Mono<UserResponseDTO> getUserById(Long id) {
+        // Cache hits are shared with the blocking API; misses are not cached from here,
+        // the invalidation guard only covers loads made through the cache
+        return Mono.justOrEmpty(userResponseCache.getIfPresent(id))
+                .switchIfEmpty(Mono.defer(() -> reactiveUserRepository.findUserDTOById(id)))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("User not found with id: " + id)));
+    }
+
+    @Override
+    public Mono<UserResponseDTO> getUserByUsername(String username) {
+        return reactiveUserRepository.findUserDTOByUsername(username)
+                .switchIfEmpty(Mono.error(() ->
+                        new ResourceNotFoundException("User not found with username: " + username)));
+    }
+
+    @Override
+    public Mono<Page<UserResponseDTO>> getAllUsers(Pageable pageable) {
+        return Mono.zip(reactiveUserRepository.findAllUserDTOs(pageable).collectList(),
+                        reactiveUserRepository.count())
+                .map(pageAndTotal -> new PageImpl<>(pageAndTotal.getT1(), pageable, pageAndTotal.getT2()));
+    }
+
+    @Override
+    public Mono<List<UserResponseDTO>> getActiveUsers(boolean basic) {
+        return (basic ? reactiveUserRepository.findActiveUserBasicDTOs() : reactiveUserRepository.findActiveUserDTOs())
+                .collectList();
+    }
+
+    @Override
+    public Mono<List<UserResponseDTO>> getUsersByRole(UserRole role, boolean basic) {
+        return (basic ? reactiveUserRepository.findUserBasicDTOsByRole(role)
+                : reactiveUserRepository.findUserDTOsByRole(role))
+                .collectList();
+    }
+
+    @Override
+    public Mono<Page<UserResponseDTO>> searchUsers(String searchTerm, Pageable pageable) {
+        Optional<List<TrigramIndex.Hit>> hits = userSearchIndex.search(searchTerm);
+        if (hits.isEmpty()) {
+            // Index still building or disabled
+            return Mono.zip(reactiveUserRepository.searchUserDTOsByName(searchTerm, pageable).collectList(),
+                            reactiveUserRepository.countByName(searchTerm))
+                    .map(pageAndTotal -> new PageImpl<>(pageAndTotal.getT1(), pageable, pageAndTotal.getT2()));
+        }
+
+        List<TrigramIndex.Hit> ranked = hits.get();
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        return loadHits(ranked.subList(from, to))
+                .map(users -> new PageImpl<>(users, pageable, ranked.size()));
+    }
+
+    @Override
+    public Mono<List<UserResponseDTO>> getInactiveUsers(int daysSinceLastLogin) {
+        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysSinceLastLogin);
+        return reactiveUserRepository.findInactiveUserDTOsSince(cutoffDate).collectList();
+    }
+
+    /**
+     * Load the users behind a page of search hits, keeping the ranking order
+     */
+    private Mono<List<UserResponseDTO>> loadHits(List<TrigramIndex.Hit> hits) {
+        if (hits.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        List<Long> ids = hits.stream().map(TrigramIndex.Hit::id).toList();
+        return reactiveUserRepository.findUserDTOsByIdIn(ids)
+                .collectMap(UserResponseDTO::getId, Function.identity())
+                .map((Map<Long, UserResponseDTO> users) -> ids.stream()
+                        .map(users::get)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList()));
+    }
+}
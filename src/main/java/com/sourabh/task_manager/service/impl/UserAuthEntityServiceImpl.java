@@ -1,7 +1,9 @@
 package com.sourabh.task_manager.service.impl;
 
+import com.sourabh.task_manager.cache.UserCacheInvalidator;
 import com.sourabh.task_manager.entity.UserAuthEntity;
 import com.sourabh.task_manager.repository.UserAuthEntityRepository;
+import com.sourabh.task_manager.security.UserDetailsCache;
 import com.sourabh.task_manager.service.UserAuthEntityService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -14,15 +16,22 @@ public class UserAuthEntityServiceImpl implements UserAuthEntityService, UserDet
 
     @Autowired
     private UserAuthEntityRepository userAuthEntityRepository;
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+    @Autowired
+    private UserCacheInvalidator userCacheInvalidator;
 
     @Override
     public UserDetails save(UserAuthEntity userAuth){
-        return userAuthEntityRepository.save(userAuth);
+        UserDetails saved = userAuthEntityRepository.save(userAuth);
+        // Password or role may have changed, on this node and the others
+        userCacheInvalidator.invalidate(null, saved.getUsername());
+        return saved;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userAuthEntityRepository.findByUsername(username)
+        return userDetailsCache.get(username, userAuthEntityRepository::findByUsername)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
     }
-}
\ No newline at end of file
+}
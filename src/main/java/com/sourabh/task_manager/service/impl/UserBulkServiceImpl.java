@@ -0,0 +1,332 @@
+package com.sourabh.task_manager.service.impl;
+
+import com.sourabh.task_manager.cache.UserCacheInvalidator;
+import com.sourabh.task_manager.config.BulkOperationProperties;
+import com.sourabh.task_manager.dto.request.BulkUserUpdateDTO;
+import com.sourabh.task_manager.dto.request.UserRegistrationDTO;
+import com.sourabh.task_manager.dto.response.BulkRegistrationResponseDTO;
+import com.sourabh.task_manager.dto.response.BulkRowResultDTO;
+import com.sourabh.task_manager.dto.response.BulkUpdateResponseDTO;
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import com.sourabh.task_manager.entity.UserEntity;
+import com.sourabh.task_manager.enums.BulkRowStatus;
+import com.sourabh.task_manager.enums.UserRole;
+import com.sourabh.task_manager.mapper.UserMapper;
+import com.sourabh.task_manager.repository.UserBatchRepository;
+import com.sourabh.task_manager.repository.UserRepository;
+import com.sourabh.task_manager.repository.UserSpecifications;
+import com.sourabh.task_manager.repository.projection.UserIdentityView;
+import com.sourabh.task_manager.search.UserAvailabilityFilter;
+import com.sourabh.task_manager.search.UserSearchIndex;
+import com.sourabh.task_manager.security.PasswordHashingExecutor;
+import com.sourabh.task_manager.service.UserBulkService;
+import com.sourabh.task_manager.service.UserStatsService;
+import com.sourabh.task_manager.util.DuplicateResourceException;
+import com.sourabh.task_manager.util.InvalidRequestException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation for bulk user operations.
+ * Not transactional as a whole: hashing runs with no connection checked out
+ * and all inserts are committed together by {@link UserBatchRepository}.
+ */
+@Service
+public class UserBulkServiceImpl implements UserBulkService {
+
+    private final UserRepository userRepository;
+    private final UserBatchRepository userBatchRepository;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final UserMapper userMapper;
+    private final Validator validator;
+    private final UserSearchIndex userSearchIndex;
+    private final UserStatsService userStatsService;
+    private final UserAvailabilityFilter userAvailabilityFilter;
+    private final UserCacheInvalidator userCacheInvalidator;
+    private final BulkOperationProperties properties;
+
+    @Autowired
+    public UserBulkServiceImpl(UserRepository userRepository,
+                               UserBatchRepository userBatchRepository,
+                               PasswordHashingExecutor passwordHashingExecutor,
+                               UserMapper userMapper,
+                               Validator validator,
+                               UserSearchIndex userSearchIndex,
+                               UserStatsService userStatsService,
+                               UserAvailabilityFilter userAvailabilityFilter,
+                               UserCacheInvalidator userCacheInvalidator,
+                               BulkOperationProperties properties) {
+        this.userRepository = userRepository;
+        this.userBatchRepository = userBatchRepository;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.userMapper = userMapper;
+        this.validator = validator;
+        this.userSearchIndex = userSearchIndex;
+        this.userStatsService = userStatsService;
+        this.userAvailabilityFilter = userAvailabilityFilter;
+        this.userCacheInvalidator = userCacheInvalidator;
+        this.properties = properties;
+    }
+
+    @Override
+    public BulkRegistrationResponseDTO registerUsers(List<UserRegistrationDTO> registrations) {
+        if (registrations == null || registrations.isEmpty()) {
+            throw new InvalidRequestException("At least one user is required");
+        }
+        if (registrations.size() > properties.getMaxRows()) {
+            throw new InvalidRequestException("At most " + properties.getMaxRows() + " users can be registered per request");
+        }
+
+        BulkRowResultDTO[] results = new BulkRowResultDTO[registrations.size()];
+        List<Integer> accepted = validate(registrations, results);
+        accepted = rejectExisting(registrations, accepted, results);
+
+        if (!accepted.isEmpty()) {
+            List<String> hashes = passwordHashingExecutor.encodeAll(
+                    accepted.stream().map(i -> registrations.get(i).getPassword()).toList());
+            Map<Integer, UserEntity> users = new LinkedHashMap<>();
+            for (int i = 0; i < accepted.size(); i++) {
+                UserEntity user = userMapper.toEntity(registrations.get(accepted.get(i)));
+                user.setPassword(hashes.get(i));
+                user.setRole(UserRole.USER);
+                users.put(accepted.get(i), user);
+                userAvailabilityFilter.put(user.getUsername(), user.getEmail());
+            }
+
+            try {
+                userBatchRepository.insertAll(new ArrayList<>(users.values()), properties.getJdbcBatchSize());
+            } catch (DuplicateKeyException e) {
+                if (!isUsernameOrEmailConflict(e)) {
+                    throw e;
+                }
+                // A concurrent registration took a username or email after the check; the batch was rolled back
+                accepted = rejectExisting(registrations, accepted, results);
+                users.keySet().retainAll(new HashSet<>(accepted));
+                try {
+                    userBatchRepository.insertAll(new ArrayList<>(users.values()), properties.getJdbcBatchSize());
+                } catch (DuplicateKeyException retryFailure) {
+                    if (!isUsernameOrEmailConflict(retryFailure)) {
+                        throw retryFailure;
+                    }
+                    throw new DuplicateResourceException("Usernames or emails were taken concurrently, retry the request", retryFailure);
+                }
+            }
+            users.values().forEach(user -> userAvailabilityFilter.putCommitted(user.getUsername(), user.getEmail()));
+
+            recordCreated(registrations, accepted, results);
+        }
+
+        return new BulkRegistrationResponseDTO(Arrays.asList(results));
+    }
+
+    @Override
+    public BulkUpdateResponseDTO activateUsers(BulkUserUpdateDTO request) {
+        return update(request, true,
+                ids -> userRepository.updateActiveStatusByIdIn(ids, true, LocalDateTime.now()));
+    }
+
+    @Override
+    public BulkUpdateResponseDTO deactivateUsers(BulkUserUpdateDTO request) {
+        return update(request, true,
+                ids -> userRepository.updateActiveStatusByIdIn(ids, false, LocalDateTime.now()));
+    }
+
+    @Override
+    public BulkUpdateResponseDTO verifyEmails(BulkUserUpdateDTO request) {
+        return update(request, false,
+                ids -> userRepository.verifyEmailsByIdIn(ids, LocalDateTime.now()));
+    }
+
+    @Override
+    public BulkUpdateResponseDTO updateUserRoles(BulkUserUpdateDTO request) {
+        UserRole role = request.getRole();
+        if (role == null) {
+            throw new InvalidRequestException("Role is required");
+        }
+        return update(request, true,
+                ids -> userRepository.updateRoleByIdIn(ids, role, LocalDateTime.now()));
+    }
+
+    /**
+     * Resolve the selected users, then run the update one chunk of IDs at a time
+     * @param affectsStats whether the change moves users between stats counters
+     * @param statement the set-based UPDATE for one chunk, returning the rows changed
+     */
+    private BulkUpdateResponseDTO update(BulkUserUpdateDTO request, boolean affectsStats,
+                                         ToIntFunction<List<Long>> statement) {
+        // One row past the limit tells an oversized filter apart without loading it all
+        Map<Long, String> targets = userBatchRepository.findUsernamesById(selection(request), properties.getMaxRows() + 1);
+        if (targets.size() > properties.getMaxRows()) {
+            throw new InvalidRequestException("The filter matches more than " + properties.getMaxRows()
+                    + " users, narrow it down and repeat the request");
+        }
+        List<Long> ids = new ArrayList<>(targets.keySet());
+
+        long updated = 0;
+        for (int from = 0; from < ids.size(); from += properties.getUpdateChunkSize()) {
+            List<Long> chunk = ids.subList(from, Math.min(from + properties.getUpdateChunkSize(), ids.size()));
+            updated += statement.applyAsInt(chunk);
+            // The chunk is committed; cached profiles and credentials carry the changed fields
+            chunk.forEach(id -> userCacheInvalidator.invalidate(id, targets.get(id)));
+        }
+
+        if (affectsStats && updated > 0) {
+            userStatsService.reconcile();
+        }
+        return new BulkUpdateResponseDTO(ids.size(), updated);
+    }
+
+    private Specification<UserEntity> selection(BulkUserUpdateDTO request) {
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean hasFilter = request.getFilter() != null && !request.getFilter().isEmpty();
+        if (hasIds == hasFilter) {
+            throw new InvalidRequestException("Provide either a list of ids or a non-empty filter");
+        }
+        if (hasIds) {
+            if (request.getIds().size() > properties.getMaxRows()) {
+                throw new InvalidRequestException("At most " + properties.getMaxRows() + " ids can be given per request");
+            }
+            return UserSpecifications.idIn(request.getIds());
+        }
+        return UserSpecifications.matching(request.getFilter());
+    }
+
+    /**
+     * Whether a unique-key violation came from the username or email key. Other
+     * integrity failures (NOT NULL, length, check constraints) are not duplicates
+     * and must surface as they are. Both PostgreSQL and H2 name the key's column
+     * in the message; constraint names are generated and cannot be relied on.
+     */
+    private static boolean isUsernameOrEmailConflict(DuplicateKeyException e) {
+        Throwable cause = e.getMostSpecificCause();
+        String message = cause.getMessage() == null ? "" : cause.getMessage().toLowerCase(Locale.ROOT);
+        return message.contains("username") || message.contains("email");
+    }
+
+    /**
+     * Bean-validate every row and reject repeats within the request
+     * @return indexes of the rows that passed
+     */
+    private List<Integer> validate(List<UserRegistrationDTO> registrations, BulkRowResultDTO[] results) {
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        List<Integer> accepted = new ArrayList<>();
+
+        for (int i = 0; i < registrations.size(); i++) {
+            UserRegistrationDTO registration = registrations.get(i);
+            if (registration == null) {
+                results[i] = new BulkRowResultDTO(i, null, BulkRowStatus.INVALID, "Row is empty");
+                continue;
+            }
+
+            Set<ConstraintViolation<UserRegistrationDTO>> violations = validator.validate(registration);
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                        .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .collect(Collectors.joining("; "));
+                results[i] = new BulkRowResultDTO(i, registration.getUsername(), BulkRowStatus.INVALID, message);
+            } else if (usernames.contains(registration.getUsername())) {
+                results[i] = new BulkRowResultDTO(i, registration.getUsername(), BulkRowStatus.DUPLICATE,
+                        "Username appears more than once in the request: " + registration.getUsername());
+            } else if (emails.contains(registration.getEmail())) {
+                results[i] = new BulkRowResultDTO(i, registration.getUsername(), BulkRowStatus.DUPLICATE,
+                        "Email appears more than once in the request: " + registration.getEmail());
+            } else {
+                usernames.add(registration.getUsername());
+                emails.add(registration.getEmail());
+                accepted.add(i);
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Reject rows whose username or email already exists, using one query for the whole batch
+     * @return indexes of the rows that are still free
+     */
+    private List<Integer> rejectExisting(List<UserRegistrationDTO> registrations, List<Integer> candidates,
+                                         BulkRowResultDTO[] results) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        Set<String> usernames = candidates.stream()
+                .map(i -> registrations.get(i).getUsername()).collect(Collectors.toSet());
+        Set<String> emails = candidates.stream()
+                .map(i -> registrations.get(i).getEmail()).collect(Collectors.toSet());
+        Set<String> takenUsernames = new HashSet<>();
+        Set<String> takenEmails = new HashSet<>();
+        for (UserIdentityView existing : userRepository.findIdentitiesByUsernameInOrEmailIn(usernames, emails)) {
+            takenUsernames.add(existing.getUsername());
+            takenEmails.add(existing.getEmail());
+        }
+
+        List<Integer> free = new ArrayList<>();
+        for (Integer i : candidates) {
+            UserRegistrationDTO registration = registrations.get(i);
+            if (takenUsernames.contains(registration.getUsername())) {
+                results[i] = new BulkRowResultDTO(i, registration.getUsername(), BulkRowStatus.DUPLICATE,
+                        "Username already exists: " + registration.getUsername());
+            } else if (takenEmails.contains(registration.getEmail())) {
+                results[i] = new BulkRowResultDTO(i, registration.getUsername(), BulkRowStatus.DUPLICATE,
+                        "Email already exists: " + registration.getEmail());
+            } else {
+                free.add(i);
+            }
+        }
+        return free;
+    }
+
+    /**
+     * Fill in the created rows and publish them to the search index (on every node) and stats
+     */
+    private void recordCreated(List<UserRegistrationDTO> registrations, List<Integer> created,
+                               BulkRowResultDTO[] results) {
+        Map<String, UserResponseDTO> users = userRepository.findUserDTOsByUsernameIn(
+                        created.stream().map(i -> registrations.get(i).getUsername()).toList())
+                .stream()
+                .collect(Collectors.toMap(UserResponseDTO::getUsername, Function.identity()));
+
+        boolean missing = false;
+        for (Integer i : created) {
+            UserResponseDTO user = users.get(registrations.get(i).getUsername());
+            if (user == null) {
+                // Committed, but not readable by its username (collation differences or a concurrent delete)
+                results[i] = new BulkRowResultDTO(i, registrations.get(i).getUsername(), BulkRowStatus.CREATED,
+                        "Created, but the user could not be read back");
+                missing = true;
+                continue;
+            }
+            BulkRowResultDTO result = new BulkRowResultDTO(i, user.getUsername(), BulkRowStatus.CREATED, null);
+            result.setUser(user);
+            results[i] = result;
+
+            userSearchIndex.put(user.getId(), user.getUsername(), user.getFirstName(), user.getLastName());
+            userCacheInvalidator.invalidateIdentity(user.getId(), user.getUsername());
+            userStatsService.recordCreated(user.getRole(), Boolean.TRUE.equals(user.getIsActive()));
+        }
+        if (missing) {
+            // The unread rows were never counted; recount instead of waiting for the next reconcile
+            userStatsService.reconcile();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.sourabh.task_manager.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import com.sourabh.task_manager.entity.UserEntity;
+import com.sourabh.task_manager.enums.ExportFormat;
+import com.sourabh.task_manager.mapper.UserMapper;
+import com.sourabh.task_manager.repository.UserRepository;
+import com.sourabh.task_manager.service.UserExportService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service implementation for streaming user exports
+ */
+@Service
+public class UserExportServiceImpl implements UserExportService {
+
+    /**
+     * Flush after the first rows so the client sees bytes immediately, then periodically
+     */
+    private static final int FIRST_FLUSH_ROWS = 100;
+    private static final int FLUSH_INTERVAL_ROWS = 5_000;
+
+    private static final String CSV_HEADER = "id,username,email,firstName,lastName,phoneNumber,role," +
+            "isActive,isEmailVerified,createdAt,updatedAt,lastLogin";
+
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public UserExportServiceImpl(UserRepository userRepository, UserMapper userMapper, ObjectMapper objectMapper) {
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportUsers(ExportFormat format, OutputStream outputStream) throws IOException {
+        try (Stream<UserEntity> users = userRepository.streamAllBy()) {
+            return switch (format) {
+                case NDJSON -> writeNdjson(users.iterator(), outputStream);
+                case CSV -> writeCsv(users.iterator(), outputStream);
+            };
+        }
+    }
+
+    private long writeNdjson(Iterator<UserEntity> users, OutputStream outputStream) throws IOException {
+        long count = 0;
+        SequenceWriter writer = objectMapper.writerFor(UserResponseDTO.class)
+                .withRootValueSeparator("\n")
+                .writeValues(outputStream);
+        while (users.hasNext()) {
+            writer.write(next(users));
+            count++;
+            flushIfDue(writer, count);
+        }
+        // Terminate the last record and flush without closing the response stream
+        writer.flush();
+        if (count > 0) {
+            outputStream.write('\n');
+        }
+        outputStream.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<UserEntity> users, OutputStream outputStream) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (users.hasNext()) {
+            UserResponseDTO user = next(users);
+            writeCsvValue(writer, user.getId());
+            writer.write(',');
+            writeCsvValue(writer, user.getUsername());
+            writer.write(',');
+            writeCsvValue(writer, user.getEmail());
+            writer.write(',');
+            writeCsvValue(writer, user.getFirstName());
+            writer.write(',');
+            writeCsvValue(writer, user.getLastName());
+            writer.write(',');
+            writeCsvValue(writer, user.getPhoneNumber());
+            writer.write(',');
+            writeCsvValue(writer, user.getRole() != null ? user.getRole().name() : null);
+            writer.write(',');
+            writeCsvValue(writer, user.getIsActive());
+            writer.write(',');
+            writeCsvValue(writer, user.getIsEmailVerified());
+            writer.write(',');
+            writeCsvValue(writer, user.getCreatedAt());
+            writer.write(',');
+            writeCsvValue(writer, user.getUpdatedAt());
+            writer.write(',');
+            writeCsvValue(writer, user.getLastLogin());
+            writer.write('\n');
+            count++;
+            flushIfDue(writer, count);
+        }
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * Map the next row and detach it so the persistence context stays empty
+     */
+    private UserResponseDTO next(Iterator<UserEntity> users) {
+        UserEntity user = users.next();
+        UserResponseDTO dto = userMapper.toResponseDTO(user);
+        entityManager.detach(user);
+        return dto;
+    }
+
+    private static void writeCsvValue(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static void flushIfDue(Flushable flushable, long count) throws IOException {
+        if (count == FIRST_FLUSH_ROWS || count % FLUSH_INTERVAL_ROWS == 0) {
+            flushable.flush();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.sourabh.task_manager.service.impl;
+
+import com.sourabh.task_manager.cache.UserResponseCache;
+import com.sourabh.task_manager.dto.request.UserFieldSet;
+import com.sourabh.task_manager.dto.request.UserFilterDTO;
+import com.sourabh.task_manager.enums.UserRole;
+import com.sourabh.task_manager.repository.UserFieldsRepository;
+import com.sourabh.task_manager.repository.UserSpecifications;
+import com.sourabh.task_manager.search.TrigramIndex;
+import com.sourabh.task_manager.search.UserSearchIndex;
+import com.sourabh.task_manager.service.UserFieldsService;
+import com.sourabh.task_manager.util.ResourceNotFoundException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Service
+public class UserFieldsServiceImpl implements UserFieldsService {
+
+    private final UserFieldsRepository userFieldsRepository;
+    private final UserResponseCache userResponseCache;
+    private final UserSearchIndex userSearchIndex;
+
+    public UserFieldsServiceImpl(UserFieldsRepository userFieldsRepository,
+                                 UserResponseCache userResponseCache,
+                                 UserSearchIndex userSearchIndex) {
+        this.userFieldsRepository = userFieldsRepository;
+        this.userResponseCache = userResponseCache;
+        this.userSearchIndex = userSearchIndex;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getUserById(Long id, UserFieldSet fields) {
+        // A cached profile is narrowed in memory; misses select only the requested columns
+        return userResponseCache.getIfPresent(id)
+                .map(fields::toResponse)
+                .or(() -> userFieldsRepository.findAll(UserSpecifications.idIn(List.of(id)), fields, Sort.unsorted())
+                        .stream().findFirst())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getUserByUsername(String username, UserFieldSet fields) {
+        return userResponseCache.getIfPresentByUsername(username)
+                .map(fields::toResponse)
+                .or(() -> userFieldsRepository.findAll(UserSpecifications.usernameEquals(username), fields,
+                        Sort.unsorted()).stream().findFirst())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + username));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllUsers(Pageable pageable, UserFieldSet fields) {
+        return userFieldsRepository.findAll(UserSpecifications.all(), fields, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getActiveUsers(UserFieldSet fields) {
+        UserFilterDTO filter = new UserFilterDTO();
+        filter.setIsActive(true);
+        return userFieldsRepository.findAll(UserSpecifications.matching(filter), fields, Sort.unsorted());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getUsersByRole(UserRole role, UserFieldSet fields) {
+        UserFilterDTO filter = new UserFilterDTO();
+        filter.setRole(role);
+        return userFieldsRepository.findAll(UserSpecifications.matching(filter), fields, Sort.unsorted());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> searchUsers(String searchTerm, Pageable pageable, UserFieldSet fields) {
+        return userSearchIndex.search(searchTerm)
+                .map(ranked -> {
+                    int from = (int) Math.min(pageable.getOffset(), ranked.size());
+                    int to = Math.min(from + pageable.getPageSize(), ranked.size());
+                    return (Page<Map<String, Object>>) new PageImpl<>(
+                            loadHits(ranked.subList(from, to), fields), pageable, ranked.size());
+                })
+                // Index still building or disabled
+                .orElseGet(() -> userFieldsRepository.findAll(
+                        UserSpecifications.nameContains(searchTerm), fields, pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getInactiveUsers(int daysSinceLastLogin, UserFieldSet fields) {
+        UserFilterDTO filter = new UserFilterDTO();
+        filter.setLastLoginBefore(LocalDateTime.now().minusDays(daysSinceLastLogin));
+        return userFieldsRepository.findAll(UserSpecifications.matching(filter), fields, Sort.unsorted());
+    }
+
+    /**
+     * Load the users behind a page of search hits, keeping the ranking order
+     */
+    private List<Map<String, Object>> loadHits(List<TrigramIndex.Hit> hits, UserFieldSet fields) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = hits.stream().map(TrigramIndex.Hit::id).toList();
+        // Rows carry only the requested properties, so key them by the always-selected ID first
+        Map<Long, Map<String, Object>> users = userFieldsRepository.findAllById(ids, fields);
+        return ids.stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+}
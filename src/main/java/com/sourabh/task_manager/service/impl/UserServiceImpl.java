@@ -1,26 +1,50 @@
 package com.sourabh.task_manager.service.impl;
 
+import com.sourabh.task_manager.cache.UserCacheInvalidator;
+import com.sourabh.task_manager.cache.UserResponseCache;
 import com.sourabh.task_manager.dto.request.UserLoginDTO;
 import com.sourabh.task_manager.dto.request.UserRegistrationDTO;
 import com.sourabh.task_manager.dto.request.UserUpdateDTO;
+import com.sourabh.task_manager.dto.response.CursorPageResponseDTO;
 import com.sourabh.task_manager.dto.response.UserResponseDTO;
 import com.sourabh.task_manager.enums.UserRole;
 import com.sourabh.task_manager.entity.UserEntity;
+import com.sourabh.task_manager.security.LastLoginBuffer;
+import com.sourabh.task_manager.security.PasswordHashingExecutor;
+import com.sourabh.task_manager.search.TrigramIndex;
+import com.sourabh.task_manager.search.UserAvailabilityFilter;
+import com.sourabh.task_manager.search.UserSearchIndex;
+import com.sourabh.task_manager.util.CursorCodec;
+import com.sourabh.task_manager.util.TransactionCallbacks;
+import com.sourabh.task_manager.util.UserETags;
 import com.sourabh.task_manager.util.DuplicateResourceException;
+import com.sourabh.task_manager.util.InvalidRequestException;
 import com.sourabh.task_manager.util.ResourceNotFoundException;
 import com.sourabh.task_manager.mapper.UserMapper;
 import com.sourabh.task_manager.repository.UserRepository;
+import com.sourabh.task_manager.repository.UserSpecifications;
 import com.sourabh.task_manager.service.UserService;
+import com.sourabh.task_manager.service.UserStatsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -31,19 +55,44 @@ import java.util.stream.Collectors;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final UserMapper userMapper;
+    private final UserSearchIndex userSearchIndex;
+    private final UserStatsService userStatsService;
+    private final LastLoginBuffer lastLoginBuffer;
+    private final UserAvailabilityFilter userAvailabilityFilter;
+    private final UserResponseCache userResponseCache;
+    private final UserCacheInvalidator userCacheInvalidator;
 
     @Autowired
     public UserServiceImpl(UserRepository userRepository,
-                           PasswordEncoder passwordEncoder,
-                           UserMapper userMapper) {
+                           PasswordHashingExecutor passwordHashingExecutor,
+                           UserMapper userMapper,
+                           UserSearchIndex userSearchIndex,
+                           UserStatsService userStatsService,
+                           LastLoginBuffer lastLoginBuffer,
+                           UserAvailabilityFilter userAvailabilityFilter,
+                           UserResponseCache userResponseCache,
+                           UserCacheInvalidator userCacheInvalidator) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
         this.userMapper = userMapper;
+        this.userSearchIndex = userSearchIndex;
+        this.userStatsService = userStatsService;
+        this.lastLoginBuffer = lastLoginBuffer;
+        this.userAvailabilityFilter = userAvailabilityFilter;
+        this.userResponseCache = userResponseCache;
+        this.userCacheInvalidator = userCacheInvalidator;
     }
 
+    /*
+     * registerUser, changePassword and authenticate run without a surrounding
+     * transaction: each query borrows and returns its own connection, and the
+     * BCrypt work in between happens with no connection checked out.
+     */
+
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponseDTO registerUser(UserRegistrationDTO registrationDTO) {
         // Check if username already exists
         if (userRepository.existsByUsername(registrationDTO.getUsername())) {
@@ -59,13 +108,26 @@ public class UserServiceImpl implements UserService {
         UserEntity user = userMapper.toEntity(registrationDTO);
 
         // Encode password
-        user.setPassword(passwordEncoder.encode(registrationDTO.getPassword()));
+        user.setPassword(passwordHashingExecutor.encode(registrationDTO.getPassword()));
 
         // Set default role
         user.setRole(UserRole.USER);
 
-        // Save user
-        UserEntity savedUser = userRepository.save(user);
+        userAvailabilityFilter.put(user.getUsername(), user.getEmail());
+
+        // Save user; the unique constraints catch a concurrent registration that passed the checks above
+        UserEntity savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateResourceException("Username or email already exists: " + registrationDTO.getUsername(), e);
+        }
+        reindex(savedUser);
+        userAvailabilityFilter.putCommitted(savedUser.getUsername(), savedUser.getEmail());
+        invalidateIdentity(savedUser.getId(), savedUser.getUsername());
+        UserRole savedRole = savedUser.getRole();
+        boolean savedActive = isActive(savedUser);
+        TransactionCallbacks.afterCommit(() -> userStatsService.recordCreated(savedRole, savedActive));
 
         return userMapper.toResponseDTO(savedUser);
     }
@@ -73,25 +135,38 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public UserResponseDTO getUserById(Long id) {
-        UserEntity user = userRepository.findById(id)
+        return userResponseCache.getById(id, () -> userRepository.findUserDTOById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
-        return userMapper.toResponseDTO(user);
     }
 
     @Override
     @Transactional(readOnly = true)
     public UserResponseDTO getUserByUsername(String username) {
-        UserEntity user = userRepository.findByUsername(username)
+        return userResponseCache.getByUsername(username, () -> userRepository.findUserDTOByUsername(username))
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + username));
-        return userMapper.toResponseDTO(user);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> getUserETag(Long id) {
+        Optional<UserResponseDTO> cached = userResponseCache.getIfPresent(id);
+        return cached.isPresent() ? cached.map(UserETags::of)
+                : userRepository.findVersionById(id).map(UserETags::of);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> getUserETagByUsername(String username) {
+        Optional<UserResponseDTO> cached = userResponseCache.getIfPresentByUsername(username);
+        return cached.isPresent() ? cached.map(UserETags::of)
+                : userRepository.findVersionByUsername(username).map(UserETags::of);
     }
 
     @Override
     @Transactional(readOnly = true)
     public UserResponseDTO getUserByEmail(String email) {
-        UserEntity user = userRepository.findByEmail(email)
+        return userResponseCache.getByEmail(email, () -> userRepository.findUserDTOByEmail(email))
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
-        return userMapper.toResponseDTO(user);
     }
 
     @Override
@@ -105,31 +180,89 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public Page<UserResponseDTO> getAllUsers(Pageable pageable) {
-        return userRepository.findAll(pageable)
-                .map(userMapper::toResponseDTO);
+        return userRepository.findAllUserDTOs(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<UserResponseDTO> getAllUsersByCursor(String after, int size, String sortBy,
+                                                                      String sortDir, boolean includeTotal) {
+        return scroll(UserSpecifications.all(), after, size, sortBy, sortDir, includeTotal);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<UserResponseDTO> getActiveUsers() {
-        return userRepository.findByIsActiveTrue().stream()
-                .map(userMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return userRepository.findActiveUserDTOs();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserResponseDTO> getActiveUsersBasic() {
+        return userRepository.findActiveUserBasicDTOs();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<UserResponseDTO> getUsersByRole(UserRole role) {
-        return userRepository.findByRole(role).stream()
-                .map(userMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return userRepository.findUserDTOsByRole(role);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserResponseDTO> getUsersByRoleBasic(UserRole role) {
+        return userRepository.findUserBasicDTOsByRole(role);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<UserResponseDTO> searchUsers(String searchTerm, Pageable pageable) {
-        return userRepository.searchUsersByName(searchTerm, pageable)
-                .map(userMapper::toResponseDTO);
+        Optional<List<TrigramIndex.Hit>> hits = userSearchIndex.search(searchTerm);
+        if (hits.isEmpty()) {
+            // Index still building or disabled
+            return userRepository.searchUserDTOsByName(searchTerm, pageable);
+        }
+
+        List<TrigramIndex.Hit> ranked = hits.get();
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        return new PageImpl<>(loadHits(ranked.subList(from, to)), pageable, ranked.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<UserResponseDTO> searchUsersByCursor(String searchTerm, String after, int size,
+                                                                      boolean includeTotal) {
+        boolean relevanceCursor = after != null && !after.isBlank() && CursorCodec.isRelevance(after);
+        Optional<List<TrigramIndex.Hit>> hits = userSearchIndex.search(searchTerm);
+
+        if (hits.isEmpty()) {
+            if (relevanceCursor) {
+                throw new InvalidRequestException("Search index is not available, restart the search without a cursor");
+            }
+            return scroll(UserSpecifications.nameContains(searchTerm), after, size, "id", "asc", includeTotal);
+        }
+
+        List<TrigramIndex.Hit> ranked = hits.get();
+        int from = 0;
+        if (relevanceCursor) {
+            CursorCodec.RelevanceCursor cursor = CursorCodec.decodeRelevance(after);
+            int position = Collections.binarySearch(ranked,
+                    new TrigramIndex.Hit(cursor.id(), cursor.score()), TrigramIndex.RANKING);
+            from = position >= 0 ? position + 1 : -position - 1;
+        } else if (after != null && !after.isBlank()) {
+            throw new InvalidRequestException("Cursor does not belong to a ranked search");
+        }
+
+        int to = Math.min(from + size, ranked.size());
+        List<TrigramIndex.Hit> page = ranked.subList(from, to);
+        boolean hasNext = to < ranked.size();
+        String nextCursor = hasNext && !page.isEmpty()
+                ? CursorCodec.encodeRelevance(page.get(page.size() - 1).score(), page.get(page.size() - 1).id())
+                : null;
+
+        return new CursorPageResponseDTO<>(loadHits(page), hasNext, nextCursor,
+                includeTotal ? (long) ranked.size() : null);
     }
 
     @Override
@@ -143,6 +276,8 @@ public class UserServiceImpl implements UserService {
                 throw new DuplicateResourceException("Email already exists: " + updateDTO.getEmail());
             }
             user.setEmail(updateDTO.getEmail());
+            userAvailabilityFilter.put(user.getUsername(), user.getEmail());
+            userAvailabilityFilter.putCommitted(user.getUsername(), user.getEmail());
             user.setIsEmailVerified(false); // Reset email verification if email changed
         }
 
@@ -158,15 +293,23 @@ public class UserServiceImpl implements UserService {
         }
 
         UserEntity updatedUser = userRepository.save(user);
+        reindex(updatedUser);
+        invalidateIdentity(id, user.getUsername());
         return userMapper.toResponseDTO(updatedUser);
     }
 
     @Override
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new ResourceNotFoundException("User not found with id: " + id);
-        }
-        userRepository.deleteById(id);
+        UserEntity user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        UserRole role = user.getRole();
+        boolean active = isActive(user);
+        userRepository.delete(user);
+        invalidateIdentity(id, user.getUsername());
+        TransactionCallbacks.afterCommit(() -> {
+            userSearchIndex.remove(id);
+            userStatsService.recordDeleted(role, active);
+        });
     }
 
     @Override
@@ -174,8 +317,14 @@ public class UserServiceImpl implements UserService {
         UserEntity user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
 
+        boolean wasActive = isActive(user);
         user.activate();
         UserEntity updatedUser = userRepository.save(user);
+        invalidateCaches(id, user.getUsername());
+        if (!wasActive) {
+            UserRole role = user.getRole();
+            TransactionCallbacks.afterCommit(() -> userStatsService.recordActiveChanged(role, true));
+        }
         return userMapper.toResponseDTO(updatedUser);
     }
 
@@ -184,8 +333,14 @@ public class UserServiceImpl implements UserService {
         UserEntity user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
 
+        boolean wasActive = isActive(user);
         user.deactivate();
         UserEntity updatedUser = userRepository.save(user);
+        invalidateCaches(id, user.getUsername());
+        if (wasActive) {
+            UserRole role = user.getRole();
+            TransactionCallbacks.afterCommit(() -> userStatsService.recordActiveChanged(role, false));
+        }
         return userMapper.toResponseDTO(updatedUser);
     }
 
@@ -196,6 +351,7 @@ public class UserServiceImpl implements UserService {
 
         user.verifyEmail();
         UserEntity updatedUser = userRepository.save(user);
+        invalidateCaches(id, user.getUsername());
         return userMapper.toResponseDTO(updatedUser);
     }
 
@@ -204,63 +360,99 @@ public class UserServiceImpl implements UserService {
         UserEntity user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
 
+        UserRole previousRole = user.getRole();
         user.setRole(role);
         UserEntity updatedUser = userRepository.save(user);
+        invalidateCaches(id, user.getUsername());
+        if (previousRole != role) {
+            boolean active = isActive(user);
+            TransactionCallbacks.afterCommit(() -> userStatsService.recordRoleChanged(previousRole, role, active));
+        }
         return userMapper.toResponseDTO(updatedUser);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void updateLastLogin(Long id) {
-        userRepository.updateLastLogin(id, LocalDateTime.now());
+        // Written in batches by the buffer instead of one UPDATE per login
+        lastLoginBuffer.record(id, LocalDateTime.now());
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean changePassword(Long id, String currentPassword, String newPassword) {
         UserEntity user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
 
         // Verify current password
-        if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
+        if (!passwordHashingExecutor.matches(currentPassword, user.getPassword())) {
             return false;
         }
 
-        // Update password
-        user.setPassword(passwordEncoder.encode(newPassword));
-        userRepository.save(user);
+        // Update password with a single-column write instead of merging the detached entity
+        String encodedPassword = passwordHashingExecutor.encode(newPassword);
+        userRepository.updatePassword(id, encodedPassword, LocalDateTime.now());
+        invalidateCaches(id, user.getUsername());
         return true;
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean validateLogin(UserLoginDTO loginDTO) {
+        return authenticate(loginDTO).isPresent();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<UserResponseDTO> authenticate(UserLoginDTO loginDTO) {
         Optional<UserEntity> userOptional = userRepository.findByUsernameOrEmail(
                 loginDTO.getUsernameOrEmail(), loginDTO.getUsernameOrEmail());
 
         if (userOptional.isEmpty()) {
-            return false;
+            return Optional.empty();
         }
 
         UserEntity user = userOptional.get();
 
         // Check if user is active
         if (Boolean.FALSE.equals(user.getIsActive())) {
-            return false;
+            return Optional.empty();
         }
 
         // Verify password
-        return passwordEncoder.matches(loginDTO.getPassword(), user.getPassword());
+        if (!passwordHashingExecutor.matches(loginDTO.getPassword(), user.getPassword())) {
+            return Optional.empty();
+        }
+
+        lastLoginBuffer.record(user.getId(), LocalDateTime.now());
+        return Optional.of(userMapper.toResponseDTO(user));
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean isUsernameAvailable(String username) {
-        return !userRepository.existsByUsername(username);
+        // A Bloom filter miss is definite, so most free usernames need no query
+        if (!userAvailabilityFilter.mightContainUsername(username)) {
+            return true;
+        }
+        boolean exists = userRepository.existsByUsername(username);
+        if (!exists) {
+            userAvailabilityFilter.recordUsernameFalsePositive();
+        }
+        return !exists;
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean isEmailAvailable(String email) {
-        return !userRepository.existsByEmail(email);
+        if (!userAvailabilityFilter.mightContainEmail(email)) {
+            return true;
+        }
+        boolean exists = userRepository.existsByEmail(email);
+        if (!exists) {
+            userAvailabilityFilter.recordEmailFalsePositive();
+        }
+        return !exists;
     }
 
     @Override
@@ -285,8 +477,76 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     public List<UserResponseDTO> getInactiveUsers(int daysSinceLastLogin) {
         LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysSinceLastLogin);
-        return userRepository.findInactiveUsersSince(cutoffDate).stream()
-                .map(userMapper::toResponseDTO)
+        return userRepository.findInactiveUserDTOsSince(cutoffDate);
+    }
+
+    private static boolean isActive(UserEntity user) {
+        return Boolean.TRUE.equals(user.getIsActive());
+    }
+
+    private void reindex(UserEntity user) {
+        Long id = user.getId();
+        String username = user.getUsername();
+        String firstName = user.getFirstName();
+        String lastName = user.getLastName();
+        TransactionCallbacks.afterCommit(() -> userSearchIndex.put(id, username, firstName, lastName));
+    }
+
+    /**
+     * Load the users behind a page of search hits, keeping the ranking order
+     */
+    private List<UserResponseDTO> loadHits(List<TrigramIndex.Hit> hits) {
+        List<Long> ids = hits.stream().map(TrigramIndex.Hit::id).toList();
+        Map<Long, UserResponseDTO> users = userRepository.findUserDTOsByIdIn(ids).stream()
+                .collect(Collectors.toMap(UserResponseDTO::getId, Function.identity()));
+        return ids.stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Drop the user's cached profile and auth details on every node once the
+     * change is committed; the last-login buffer does the same after each flush
+     */
+    private void invalidateCaches(Long id, String username) {
+        TransactionCallbacks.afterCommit(() -> userCacheInvalidator.invalidate(id, username));
+    }
+
+    /**
+     * Like {@link #invalidateCaches}, for creates, deletes and changes to the
+     * username, email or name, which other nodes also apply to their search index
+     * and availability filter
+     */
+    private void invalidateIdentity(Long id, String username) {
+        TransactionCallbacks.afterCommit(() -> userCacheInvalidator.invalidateIdentity(id, username));
+    }
+
+    private CursorPageResponseDTO<UserResponseDTO> scroll(Specification<UserEntity> specification, String after,
+                                                          int size, String sortBy, String sortDir,
+                                                          boolean includeTotal) {
+        Sort sort;
+        ScrollPosition position;
+        if (after != null && !after.isBlank()) {
+            CursorCodec.Cursor cursor = CursorCodec.decode(after);
+            sort = cursor.sort();
+            position = cursor.position();
+        } else {
+            Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? Sort.Direction.DESC : Sort.Direction.ASC;
+            sort = CursorCodec.keysetSort(sortBy, direction);
+            position = ScrollPosition.keyset();
+        }
+
+        // Seeks past the last (sort key, id) instead of using OFFSET
+        Window<UserEntity> window = userRepository.findBy(specification,
+                query -> query.sortBy(sort).limit(size).scroll(position));
+
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? CursorCodec.encode(sort, window.positionAt(window.size() - 1))
+                : null;
+        Long total = includeTotal ? userRepository.count(specification) : null;
+
+        return new CursorPageResponseDTO<>(
+                window.map(userMapper::toResponseDTO).getContent(), window.hasNext(), nextCursor, total);
+    }
 }
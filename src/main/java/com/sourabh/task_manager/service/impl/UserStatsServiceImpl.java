@@ -0,0 +1,138 @@
+package com.sourabh.task_manager.service.impl;
+
+import com.sourabh.task_manager.enums.UserRole;
+import com.sourabh.task_manager.repository.UserRepository;
+import com.sourabh.task_manager.repository.projection.RoleActivityCountView;
+import com.sourabh.task_manager.service.UserStatsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service implementation keeping one {@link LongAdder} per (role, active) pair.
+ * Writers only touch their own cell, so concurrent registrations and status
+ * changes do not contend; reads sum a handful of cells.
+ */
+@Slf4j
+@Service
+public class UserStatsServiceImpl implements UserStatsService {
+
+    private static final int INACTIVE = 0;
+    private static final int ACTIVE = 1;
+
+    private final UserRepository userRepository;
+    private final Map<UserRole, LongAdder[]> counters = new EnumMap<>(UserRole.class);
+
+    private volatile boolean loaded;
+
+    @Autowired
+    public UserStatsServiceImpl(UserRepository userRepository) {
+        this.userRepository = userRepository;
+        for (UserRole role : UserRole.values()) {
+            counters.put(role, new LongAdder[]{new LongAdder(), new LongAdder()});
+        }
+    }
+
+    @Override
+    public Map<String, Object> getUserStats() {
+        if (!loaded) {
+            reconcile();
+        }
+
+        long total = 0;
+        long active = 0;
+        for (LongAdder[] cells : counters.values()) {
+            total += cells[INACTIVE].sum() + cells[ACTIVE].sum();
+            active += cells[ACTIVE].sum();
+        }
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalUsers", total);
+        stats.put("activeUsers", active);
+        stats.put("adminUsers", countByRole(UserRole.ADMIN));
+        stats.put("managerUsers", countByRole(UserRole.MANAGER));
+        stats.put("regularUsers", countByRole(UserRole.USER));
+        return stats;
+    }
+
+    @Override
+    public void recordCreated(UserRole role, boolean active) {
+        cell(role, active).increment();
+    }
+
+    @Override
+    public void recordDeleted(UserRole role, boolean active) {
+        cell(role, active).decrement();
+    }
+
+    @Override
+    public void recordActiveChanged(UserRole role, boolean active) {
+        cell(role, !active).decrement();
+        cell(role, active).increment();
+    }
+
+    @Override
+    public void recordRoleChanged(UserRole previousRole, UserRole newRole, boolean active) {
+        cell(previousRole, active).decrement();
+        cell(newRole, active).increment();
+    }
+
+    /**
+     * Corrections are applied as deltas against a snapshot taken before the
+     * query, so changes recorded while it runs are kept. A change that commits
+     * between the snapshot and the query is counted twice until the next run.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-interval:PT5M}",
+            initialDelayString = "${app.stats.reconcile-interval:PT5M}")
+    public synchronized void reconcile() {
+        Map<UserRole, long[]> before = snapshot();
+        List<RoleActivityCountView> rows = userRepository.countGroupedByRoleAndActive();
+
+        Map<UserRole, long[]> actual = new EnumMap<>(UserRole.class);
+        for (UserRole role : UserRole.values()) {
+            actual.put(role, new long[2]);
+        }
+        for (RoleActivityCountView row : rows) {
+            actual.get(row.getRole())[Boolean.TRUE.equals(row.getActive()) ? ACTIVE : INACTIVE] += row.getTotal();
+        }
+
+        long drift = 0;
+        for (UserRole role : UserRole.values()) {
+            for (int state = INACTIVE; state <= ACTIVE; state++) {
+                long correction = actual.get(role)[state] - before.get(role)[state];
+                counters.get(role)[state].add(correction);
+                drift += Math.abs(correction);
+            }
+        }
+
+        if (loaded && drift > 0) {
+            log.info("User stats reconciled, corrected drift of {}", drift);
+        }
+        loaded = true;
+    }
+
+    private long countByRole(UserRole role) {
+        LongAdder[] cells = counters.get(role);
+        return cells[INACTIVE].sum() + cells[ACTIVE].sum();
+    }
+
+    private LongAdder cell(UserRole role, boolean active) {
+        return counters.get(role)[active ? ACTIVE : INACTIVE];
+    }
+
+    private Map<UserRole, long[]> snapshot() {
+        Map<UserRole, long[]> snapshot = new EnumMap<>(UserRole.class);
+        counters.forEach((role, cells) -> snapshot.put(role, new long[]{cells[INACTIVE].sum(), cells[ACTIVE].sum()}));
+        return snapshot;
+    }
+}
@@ -0,0 +1,160 @@
+package com.sourabh.task_manager.util;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Encodes keyset positions as opaque "after" tokens for cursor pagination.
+ * A cursor carries the sort property, direction and the (sort key, id) of the last row returned.
+ */
+public final class CursorCodec {
+
+    private static final String ID = "id";
+    private static final String RELEVANCE = "relevance";
+    private static final char SEPARATOR = '\u001F';
+
+    /**
+     * Sortable properties and how to read their cursor values back
+     */
+    private static final Map<String, Function<String, Object>> SORT_KEYS = Map.of(
+            ID, Long::valueOf,
+            "username", value -> value,
+            "email", value -> value,
+            "firstName", value -> value,
+            "lastName", value -> value,
+            "createdAt", LocalDateTime::parse,
+            "updatedAt", LocalDateTime::parse);
+
+    private CursorCodec() {
+    }
+
+    /**
+     * Decoded position in a relevance-ranked result list
+     * @param score score of the last returned hit
+     * @param id ID of the last returned hit
+     */
+    public record RelevanceCursor(int score, long id) {
+    }
+
+    /**
+     * Decoded cursor state
+     * @param sort the sort the cursor was created with
+     * @param position where to continue scrolling from
+     */
+    public record Cursor(Sort sort, ScrollPosition position) {
+    }
+
+    /**
+     * Build the keyset sort for a property, with id as the unique tie-breaker
+     * @param sortBy the sort property
+     * @param direction the sort direction
+     * @return the keyset sort
+     */
+    public static Sort keysetSort(String sortBy, Sort.Direction direction) {
+        if (!SORT_KEYS.containsKey(sortBy)) {
+            throw new InvalidRequestException("Cursor pagination does not support sorting by: " + sortBy);
+        }
+        Sort sort = Sort.by(direction, sortBy);
+        return ID.equals(sortBy) ? sort : sort.and(Sort.by(direction, ID));
+    }
+
+    /**
+     * Encode the position after the last returned row
+     * @param sort the keyset sort in use
+     * @param position the scroll position of the last returned row
+     * @return opaque cursor token
+     */
+    public static String encode(Sort sort, ScrollPosition position) {
+        KeysetScrollPosition keyset = (KeysetScrollPosition) position;
+        Sort.Order primary = sort.iterator().next();
+        Object sortValue = keyset.getKeys().get(primary.getProperty());
+        Object id = keyset.getKeys().get(ID);
+
+        return toToken(primary.getProperty() + SEPARATOR + primary.getDirection().name()
+                + SEPARATOR + sortValue + SEPARATOR + id);
+    }
+
+    /**
+     * Encode the position after the last returned hit of a ranked search
+     * @param score score of the last returned hit
+     * @param id ID of the last returned hit
+     * @return opaque cursor token
+     */
+    public static String encodeRelevance(int score, long id) {
+        return toToken(RELEVANCE + SEPARATOR + Sort.Direction.DESC.name() + SEPARATOR + score + SEPARATOR + id);
+    }
+
+    /**
+     * @param token a cursor token
+     * @return true if the token was created by {@link #encodeRelevance(int, long)}
+     */
+    public static boolean isRelevance(String token) {
+        return RELEVANCE.equals(split(token)[0]);
+    }
+
+    /**
+     * Decode a relevance "after" token
+     * @param token the cursor token from the previous page
+     * @return the score and ID of the last hit returned
+     * @throws InvalidRequestException if the token is malformed
+     */
+    public static RelevanceCursor decodeRelevance(String token) {
+        String[] parts = split(token);
+        try {
+            if (!RELEVANCE.equals(parts[0])) {
+                throw new InvalidRequestException("Not a relevance cursor");
+            }
+            return new RelevanceCursor(Integer.parseInt(parts[2]), Long.parseLong(parts[3]));
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("Malformed cursor", e);
+        }
+    }
+
+    /**
+     * Decode an "after" token
+     * @param token the cursor token from the previous page
+     * @return the sort and the position to continue from
+     * @throws InvalidRequestException if the token is malformed
+     */
+    public static Cursor decode(String token) {
+        String[] parts = split(token);
+        try {
+            String sortBy = parts[0];
+            Sort sort = keysetSort(sortBy, Sort.Direction.valueOf(parts[1]));
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(sortBy, SORT_KEYS.get(sortBy).apply(parts[2]));
+            keys.put(ID, Long.valueOf(parts[3]));
+            return new Cursor(sort, ScrollPosition.forward(keys));
+        } catch (InvalidRequestException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Malformed cursor", e);
+        }
+    }
+
+    private static String toToken(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] split(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(String.valueOf(SEPARATOR), -1);
+            if (parts.length != 4) {
+                throw new InvalidRequestException("Malformed cursor");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Malformed cursor", e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.sourabh.task_manager.util;
+
+/**
+ * Exception thrown when request parameters are malformed or unsupported
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,18 @@
+package com.sourabh.task_manager.util;
+
+/**
+ * Exception thrown when a bounded resource is saturated and the request should be retried later
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,57 @@
+package com.sourabh.task_manager.util;
+
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import com.sourabh.task_manager.repository.projection.UserVersionView;
+import org.springframework.http.ETag;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Weak ETags for user representations, derived from the ID, updatedAt and
+ * lastLogin (the one column written without touching updatedAt). They are weak
+ * because they track the user's version, not the bytes: the same version may be
+ * encoded differently per Accept header or content coding. Timestamps are
+ * truncated to microseconds so a value read back from the database yields the
+ * same tag as the one held in memory.
+ */
+public final class UserETags {
+
+    private UserETags() {
+    }
+
+    /**
+     * @return the weak ETag of the representation
+     */
+    public static String of(UserResponseDTO user) {
+        return of(user.getId(), user.getUpdatedAt(), user.getLastLogin());
+    }
+
+    /**
+     * @return the weak ETag of the representation at this version
+     */
+    public static String of(UserVersionView version) {
+        return of(version.getId(), version.getUpdatedAt(), version.getLastLogin());
+    }
+
+    /**
+     * Compare as If-None-Match does, with weak comparison
+     * @param ifNoneMatch the header value, possibly a list or "*"
+     * @param etag the current ETag
+     * @return whether the client's copy is current
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        ETag current = ETag.create(etag);
+        return ETag.parse(ifNoneMatch).stream()
+                .anyMatch(candidate -> candidate.isWildcard() || candidate.compare(current, false));
+    }
+
+    private static String of(Long id, LocalDateTime updatedAt, LocalDateTime lastLogin) {
+        return "W/\"" + id + "-" + Long.toString(epochMicros(updatedAt), 36)
+                + "-" + Long.toString(epochMicros(lastLogin), 36) + "\"";
+    }
+
+    private static long epochMicros(LocalDateTime value) {
+        return value == null ? 0 : value.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + value.getNano() / 1_000;
+    }
+}
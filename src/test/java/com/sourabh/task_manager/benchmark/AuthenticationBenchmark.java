@@ -0,0 +1,126 @@
+package com.sourabh.task_manager.benchmark;
+
+import com.sourabh.task_manager.security.DevSecurityConfig;
+import com.sourabh.task_manager.security.JwtProperties;
+import com.sourabh.task_manager.security.JwtTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Requests/sec through the real security filter chain: HTTP Basic vs Bearer token.
+ * The Basic user store is in memory, so the numbers exclude the DB round trip
+ * and understate the real gap.
+ * Run with: mvn test -Pbenchmark -Dtest=AuthenticationBenchmark
+ */
+@Tag("benchmark")
+@ActiveProfiles("dev")
+@SpringJUnitWebConfig(AuthenticationBenchmark.BenchmarkConfig.class)
+class AuthenticationBenchmark {
+
+    private static final long WARMUP_MILLIS = 2_000;
+    private static final long MEASURE_MILLIS = 5_000;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private JwtTokenService jwtTokenService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    void basicVersusBearer() throws Exception {
+        String basic = "Basic " + Base64.getEncoder()
+                .encodeToString("bench:password123".getBytes(StandardCharsets.UTF_8));
+        String bearer = "Bearer " + jwtTokenService
+                .issueTokens("bench", List.of("ROLE_USER")).get("accessToken");
+
+        run(basic, WARMUP_MILLIS);
+        run(bearer, WARMUP_MILLIS);
+
+        double basicRps = run(basic, MEASURE_MILLIS);
+        double bearerRps = run(bearer, MEASURE_MILLIS);
+
+        System.out.printf("Basic : %10.1f req/s%n", basicRps);
+        System.out.printf("Bearer: %10.1f req/s%n", bearerRps);
+        System.out.printf("Speedup: %.1fx%n", bearerRps / basicRps);
+    }
+
+    private double run(String authorization, long millis) throws Exception {
+        long deadline = System.nanoTime() + millis * 1_000_000;
+        long start = System.nanoTime();
+        long requests = 0;
+        while (System.nanoTime() < deadline) {
+            mockMvc.perform(get("/api/ping").header(HttpHeaders.AUTHORIZATION, authorization))
+                    .andExpect(status().isOk());
+            requests++;
+        }
+        return requests / ((System.nanoTime() - start) / 1e9);
+    }
+
+    @Configuration
+    @EnableWebMvc
+    @Import(DevSecurityConfig.class)
+    static class BenchmarkConfig {
+
+        @Bean
+        UserDetailsService userDetailsService(PasswordEncoder passwordEncoder) {
+            return new InMemoryUserDetailsManager(User.withUsername("bench")
+                    .password(passwordEncoder.encode("password123"))
+                    .roles("USER")
+                    .build());
+        }
+
+        @Bean
+        JwtTokenService jwtTokenService() {
+            JwtProperties properties = new JwtProperties();
+            properties.setSecret("RMrEiI2oVLBGlk0RZKLO8kr9azm58zBUN6crnOkTV6GlYrIsEGm8fljKngcuQS0X");
+            return new JwtTokenService(properties);
+        }
+
+        @Bean
+        PingController pingController() {
+            return new PingController();
+        }
+    }
+
+    @RestController
+    static class PingController {
+
+        @GetMapping("/api/ping")
+        String ping() {
+            return "pong";
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.sourabh.task_manager.benchmark;
+
+import com.sourabh.task_manager.cache.InvalidationBusProperties;
+import com.sourabh.task_manager.cache.UserCacheInvalidator;
+import com.sourabh.task_manager.cache.UserResponseCache;
+import com.sourabh.task_manager.cache.UserResponseCacheProperties;
+import com.sourabh.task_manager.config.BulkOperationProperties;
+import com.sourabh.task_manager.config.CacheInvalidationConfig;
+import com.sourabh.task_manager.dto.request.UserRegistrationDTO;
+import com.sourabh.task_manager.dto.response.BulkRegistrationResponseDTO;
+import com.sourabh.task_manager.mapper.UserMapper;
+import com.sourabh.task_manager.repository.UserBatchRepository;
+import com.sourabh.task_manager.search.UserAvailabilityFilter;
+import com.sourabh.task_manager.search.UserAvailabilityProperties;
+import com.sourabh.task_manager.search.UserSearchIndex;
+import com.sourabh.task_manager.search.UserSearchProperties;
+import com.sourabh.task_manager.security.LastLoginBuffer;
+import com.sourabh.task_manager.security.LastLoginBufferProperties;
+import com.sourabh.task_manager.security.PasswordHashingExecutor;
+import com.sourabh.task_manager.security.PasswordHashingProperties;
+import com.sourabh.task_manager.security.UserDetailsCache;
+import com.sourabh.task_manager.security.UserDetailsCacheProperties;
+import com.sourabh.task_manager.service.UserBulkService;
+import com.sourabh.task_manager.service.UserService;
+import com.sourabh.task_manager.service.impl.UserBulkServiceImpl;
+import com.sourabh.task_manager.service.impl.UserServiceImpl;
+import com.sourabh.task_manager.service.impl.UserStatsServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Users registered per second: one POST /register call per user versus one
+ * bulk call, both with real BCrypt hashing. Runs on embedded H2, which has no
+ * equivalent of PostgreSQL's reWriteBatchedInserts, so the insert gain is understated.
+ * Run with: mvn test -Pbenchmark -Dtest=BulkRegistrationBenchmark
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+@Import(BulkRegistrationBenchmark.BenchmarkConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BulkRegistrationBenchmark {
+
+    private static final int USERS = 500;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserBulkService userBulkService;
+
+    @Test
+    void singleVersusBulk() {
+        // Warm up both paths
+        register("warm", 20);
+        userBulkService.registerUsers(rows("warmbulk", 20));
+
+        long start = System.nanoTime();
+        register("single", USERS);
+        double singleSeconds = (System.nanoTime() - start) / 1e9;
+
+        start = System.nanoTime();
+        BulkRegistrationResponseDTO result = userBulkService.registerUsers(rows("bulk", USERS));
+        double bulkSeconds = (System.nanoTime() - start) / 1e9;
+        assertEquals(USERS, result.getCreated());
+
+        System.out.printf("Single register: %8.1f users/s (%.2f s)%n", USERS / singleSeconds, singleSeconds);
+        System.out.printf("Bulk register:   %8.1f users/s (%.2f s)%n", USERS / bulkSeconds, bulkSeconds);
+        System.out.printf("Speedup: %.1fx on %d cores%n", singleSeconds / bulkSeconds,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    private void register(String prefix, int count) {
+        for (UserRegistrationDTO row : rows(prefix, count)) {
+            userService.registerUser(row);
+        }
+    }
+
+    private static List<UserRegistrationDTO> rows(String prefix, int count) {
+        List<UserRegistrationDTO> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new UserRegistrationDTO(prefix + i, prefix + i + "@example.com", "password123",
+                    "First" + i, "Last" + i));
+        }
+        return rows;
+    }
+
+    @TestConfiguration
+    @EnableConfigurationProperties({PasswordHashingProperties.class, UserDetailsCacheProperties.class,
+            UserSearchProperties.class, BulkOperationProperties.class, LastLoginBufferProperties.class,
+            UserAvailabilityProperties.class, UserResponseCacheProperties.class,
+            InvalidationBusProperties.class})
+    @Import({UserServiceImpl.class, UserBulkServiceImpl.class, UserStatsServiceImpl.class, UserBatchRepository.class,
+            UserMapper.class, PasswordHashingExecutor.class, UserDetailsCache.class, UserSearchIndex.class,
+            LastLoginBuffer.class, UserAvailabilityFilter.class, UserResponseCache.class,
+            UserCacheInvalidator.class, CacheInvalidationConfig.class})
+    static class BenchmarkConfig {
+
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        LocalValidatorFactoryBean validator() {
+            return new LocalValidatorFactoryBean();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.sourabh.task_manager.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import com.sourabh.task_manager.enums.UserRole;
+import com.sourabh.task_manager.json.ResponseJsonModule;
+import com.sourabh.task_manager.util.ApiResponse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Payload size and encode/decode CPU time for a list response of 1,000 users in
+ * JSON, CBOR and Smile, each plain and gzipped as server.compression would send it.
+ * Mappers are configured like the application's (Boot builder + ResponseJsonModule).
+ * Run with: mvn test -Pbenchmark -Dtest=ListEncodingBenchmark
+ */
+@Tag("benchmark")
+class ListEncodingBenchmark {
+
+    private static final int USERS = 1_000;
+    private static final int ROUNDS = 300;
+    private static final TypeReference<ApiResponse<List<UserResponseDTO>>> RESPONSE_TYPE = new TypeReference<>() {
+    };
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    @Test
+    void jsonVersusBinaryEncodings() throws Exception {
+        ApiResponse<List<UserResponseDTO>> response =
+                new ApiResponse<>(true, "Active users retrieved successfully", users());
+
+        System.out.printf("List of %,d users%n", USERS);
+        for (String format : List.of("json", "cbor", "smile")) {
+            ObjectMapper mapper = mapper(format);
+            measure(format, mapper, response, false);
+            measure(format + " + gzip", mapper, response, true);
+        }
+    }
+
+    private void measure(String label, ObjectMapper mapper, Object response, boolean gzip) throws Exception {
+        byte[] encoded = encode(mapper, response, gzip);
+        for (int i = 0; i < ROUNDS / 5; i++) {
+            decode(mapper, encode(mapper, response, gzip), gzip);
+        }
+
+        long encodeStart = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            encoded = encode(mapper, response, gzip);
+        }
+        long encodeCpu = threads.getCurrentThreadCpuTime() - encodeStart;
+
+        long decodeStart = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            decode(mapper, encoded, gzip);
+        }
+        long decodeCpu = threads.getCurrentThreadCpuTime() - decodeStart;
+
+        System.out.printf("  %-13s %,9d bytes  encode %8.1f us  decode %8.1f us (CPU per response)%n",
+                label, encoded.length, encodeCpu / 1e3 / ROUNDS, decodeCpu / 1e3 / ROUNDS);
+    }
+
+    private static byte[] encode(ObjectMapper mapper, Object response, boolean gzip) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 * 1024);
+        if (gzip) {
+            try (GZIPOutputStream out = new GZIPOutputStream(bytes, 8192)) {
+                mapper.writeValue(out, response);
+            }
+        } else {
+            mapper.writeValue(bytes, response);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static ApiResponse<List<UserResponseDTO>> decode(ObjectMapper mapper, byte[] encoded, boolean gzip)
+            throws IOException {
+        return gzip
+                ? mapper.readValue(new GZIPInputStream(new ByteArrayInputStream(encoded), 8192), RESPONSE_TYPE)
+                : mapper.readValue(encoded, RESPONSE_TYPE);
+    }
+
+    private static ObjectMapper mapper(String format) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new ResponseJsonModule());
+        return switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            default -> builder.build();
+        };
+    }
+
+    private static List<UserResponseDTO> users() {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 17, 9, 30, 12, 345_678_000);
+        List<UserResponseDTO> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(new UserResponseDTO((long) i, "user" + i, "user" + i + "@example.com", "First" + i,
+                    "Last" + i, "+1-555-" + i, UserRole.values()[i % UserRole.values().length], true, i % 2 == 0,
+                    now.minusDays(i), now.minusHours(i), i % 3 == 0 ? null : now.minusMinutes(i)));
+        }
+        return users;
+    }
+}
@@ -0,0 +1,90 @@
+package com.sourabh.task_manager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sourabh.task_manager.dto.response.PageResponseDTO;
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import com.sourabh.task_manager.enums.UserRole;
+import com.sourabh.task_manager.json.ResponseJsonModule;
+import com.sourabh.task_manager.util.ApiResponse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bytes and microseconds per serialized page of users: Spring's Page through
+ * the default bean serializers versus PageResponseDTO with and without the
+ * hand-written serializers in ResponseJsonModule.
+ * Run with: mvn test -Pbenchmark -Dtest=PageSerializationBenchmark
+ */
+@Tag("benchmark")
+class PageSerializationBenchmark {
+
+    private static final int[] PAGE_SIZES = {10, 100};
+    private static final int ROUNDS = 50_000;
+    private static final long TOTAL_USERS = 1_000_000;
+
+    private final ObjectMapper beanMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ObjectMapper moduleMapper = beanMapper.copy().registerModule(new ResponseJsonModule());
+
+    @Test
+    void springPageVersusCompactPage() throws Exception {
+        for (int size : PAGE_SIZES) {
+            List<UserResponseDTO> users = users(size);
+            PageRequest pageable = PageRequest.of(3, size, Sort.by("createdAt").descending());
+            Page<UserResponseDTO> page = new PageImpl<>(users, pageable, TOTAL_USERS);
+
+            System.out.printf("Page of %d users%n", size);
+            measure("Spring Page, bean serializers", beanMapper,
+                    new ApiResponse<>(true, "Users retrieved successfully", page));
+            measure("PageResponseDTO, bean serializers", beanMapper,
+                    new ApiResponse<>(true, "Users retrieved successfully", PageResponseDTO.of(page)));
+            measure("PageResponseDTO, ResponseJsonModule", moduleMapper,
+                    new ApiResponse<>(true, "Users retrieved successfully", PageResponseDTO.of(page)));
+        }
+    }
+
+    private static void measure(String label, ObjectMapper mapper, Object response) throws Exception {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        int bytes = 0;
+        for (int i = 0; i < ROUNDS / 5; i++) {
+            bytes = mapper.writeValueAsBytes(response).length;
+        }
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            mapper.writeValueAsBytes(response);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        System.out.printf("  %-36s %,7d bytes  %8.2f us/page  %,9d bytes allocated/page%n",
+                label, bytes, elapsed / 1e3 / ROUNDS, allocated / ROUNDS);
+    }
+
+    private static List<UserResponseDTO> users(int count) {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 17, 9, 30, 12, 345_678_000);
+        List<UserResponseDTO> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(new UserResponseDTO((long) i, "user" + i, "user" + i + "@example.com", "First" + i,
+                    "Last" + i, "+1-555-" + i, UserRole.USER, true, i % 2 == 0,
+                    now.minusDays(i), now.minusHours(i), i % 3 == 0 ? null : now.minusMinutes(i)));
+        }
+        return users;
+    }
+}
@@ -0,0 +1,123 @@
+package com.sourabh.task_manager.benchmark;
+
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import com.sourabh.task_manager.entity.UserEntity;
+import com.sourabh.task_manager.mapper.UserMapper;
+import com.sourabh.task_manager.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Entity hydration + UserMapper versus constructor-expression projections for the
+ * active-users query. Reports heap allocated per call and the column bytes selected.
+ * Uses an embedded H2 database, so latencies are indicative only.
+ * Run with: mvn test -Pbenchmark -Dtest=ProjectionBenchmark
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProjectionBenchmark {
+
+    private static final int USERS = 20_000;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final UserMapper userMapper = new UserMapper();
+
+    @BeforeEach
+    void seed() {
+        if (userRepository.count() > 0) {
+            return;
+        }
+        List<UserEntity> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            UserEntity user = new UserEntity("user" + i, "user" + i + "@example.com",
+                    "$2a$10$abcdefghijklmnopqrstuuPZc1y2Qm0sS5qk7wV8F0f4a1WmC0h7Ga", "First" + i, "Last" + i);
+            user.setPhoneNumber("+1-555-" + i);
+            users.add(user);
+        }
+        userRepository.saveAll(users);
+    }
+
+    @Test
+    void entityVersusProjection() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        measure("entity + mapper", () -> readOnly.execute(status ->
+                userMapper.toResponseDTOList(userRepository.findByIsActiveTrue())));
+        measure("DTO projection", () -> readOnly.execute(status -> userRepository.findActiveUserDTOs()));
+        measure("basic projection", () -> readOnly.execute(status -> userRepository.findActiveUserBasicDTOs()));
+
+        System.out.printf("Selected bytes, entity:     %,d%n",
+                selectedBytes("SELECT * FROM users WHERE is_active = true"));
+        System.out.printf("Selected bytes, projection: %,d%n", selectedBytes(
+                "SELECT id, username, email, first_name, last_name, phone_number, role, is_active, " +
+                        "is_email_verified, created_at, updated_at, last_login FROM users WHERE is_active = true"));
+        System.out.printf("Selected bytes, basic:      %,d%n", selectedBytes(
+                "SELECT id, username, first_name, last_name, role, is_active FROM users WHERE is_active = true"));
+    }
+
+    private void measure(String label, Supplier<List<UserResponseDTO>> query) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < 3; i++) {
+            query.get();
+        }
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        int rows = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            rows = query.get().size();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        System.out.printf("%-17s rows=%d  %8.2f ms/call  %,14d bytes allocated/call%n",
+                label, rows, elapsed / 1e6 / ROUNDS, allocated / ROUNDS);
+    }
+
+    private long selectedBytes(String sql) {
+        return jdbcTemplate.query(sql, (ResultSet rs) -> {
+            ResultSetMetaData meta = rs.getMetaData();
+            long bytes = 0;
+            while (rs.next()) {
+                for (int column = 1; column <= meta.getColumnCount(); column++) {
+                    String value = rs.getString(column);
+                    bytes += value == null ? 0 : value.length();
+                }
+            }
+            return bytes;
+        });
+    }
+}
@@ -0,0 +1,116 @@
+package com.sourabh.task_manager.benchmark;
+
+import com.sourabh.task_manager.cache.UserCacheInvalidator;
+import com.sourabh.task_manager.cache.UserResponseCache;
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import com.sourabh.task_manager.mapper.UserMapper;
+import com.sourabh.task_manager.repository.UserRepository;
+import com.sourabh.task_manager.search.UserAvailabilityFilter;
+import com.sourabh.task_manager.search.UserSearchIndex;
+import com.sourabh.task_manager.search.UserSearchProperties;
+import com.sourabh.task_manager.security.LastLoginBuffer;
+import com.sourabh.task_manager.security.PasswordHashingExecutor;
+import com.sourabh.task_manager.service.UserStatsService;
+import com.sourabh.task_manager.service.impl.UserServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * {@code UserService.searchUsers} at 1M users, served by the trigram index (index
+ * lookup plus loading the page by primary key) versus the JPQL fallback
+ * {@code UserRepository.searchUserDTOsByName} (LOWER(col) LIKE '%term%' plus the
+ * page count). Runs on embedded H2, which scans like Postgres does for a leading
+ * wildcard but has no parallel scan, so absolute latencies are indicative only.
+ * Run with: mvn test -Pbenchmark -Dtest=SearchIndexBenchmark
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SearchIndexBenchmark {
+
+    private static final int USERS = 1_000_000;
+    private static final int ROUNDS = 10;
+    private static final PageRequest PAGE = PageRequest.of(0, 20);
+    private static final List<String> TERMS = List.of("smi", "johnson", "ary", "user12345", "xyzzy", "mich");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        if (userRepository.count() > 0) {
+            return;
+        }
+        // Generated in SQL: a million JPA inserts would dominate the run
+        jdbcTemplate.update("""
+                INSERT INTO users (username, email, password, first_name, last_name, role, is_active,
+                                   is_email_verified, created_at, updated_at)
+                SELECT 'user' || X, 'user' || X || '@example.com',
+                       '$2a$10$abcdefghijklmnopqrstuuPZc1y2Qm0sS5qk7wV8F0f4a1WmC0h7Ga',
+                       ARRAY['John', 'Mary', 'Robert', 'Linda', 'Michael', 'Sarah', 'David', 'Anna'][MOD(X, 8) + 1]
+                           || CHAR(97 + MOD(X / 8, 26)),
+                       ARRAY['Smith', 'Johnson', 'Williams', 'Brown', 'Jones', 'Garcia', 'Miller'][MOD(X / 7, 7) + 1]
+                           || CHAR(97 + MOD(X / 13, 26)),
+                       'USER', TRUE, FALSE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                """, USERS);
+    }
+
+    @Test
+    void indexVersusJpql() {
+        UserSearchIndex index = new UserSearchIndex(userRepository, new UserSearchProperties());
+        long buildStart = System.nanoTime();
+        index.rebuild();
+        System.out.printf("Parallel build of %,d users: %d ms%n", USERS, (System.nanoTime() - buildStart) / 1_000_000);
+
+        UserServiceImpl indexed = service(index);
+        // Never built, so every search takes the JPQL fallback
+        UserServiceImpl fallback = service(new UserSearchIndex(userRepository, new UserSearchProperties()));
+
+        for (String term : TERMS) {
+            // warm up
+            indexed.searchUsers(term, PAGE);
+            fallback.searchUsers(term, PAGE);
+
+            long indexNanos = 0;
+            long jpqlNanos = 0;
+            Page<UserResponseDTO> hits = Page.empty();
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                hits = indexed.searchUsers(term, PAGE);
+                indexNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                fallback.searchUsers(term, PAGE);
+                jpqlNanos += System.nanoTime() - start;
+            }
+            System.out.printf("%-10s hits=%-7d index=%8.2f ms  jpql=%8.2f ms%n", term, hits.getTotalElements(),
+                    indexNanos / 1e6 / ROUNDS, jpqlNanos / 1e6 / ROUNDS);
+        }
+    }
+
+    private UserServiceImpl service(UserSearchIndex index) {
+        return new UserServiceImpl(userRepository, mock(PasswordHashingExecutor.class), new UserMapper(), index,
+                mock(UserStatsService.class), mock(LastLoginBuffer.class), mock(UserAvailabilityFilter.class),
+                mock(UserResponseCache.class), mock(UserCacheInvalidator.class));
+    }
+}
@@ -0,0 +1,268 @@
+package com.sourabh.task_manager.benchmark;
+
+import com.sourabh.task_manager.entity.UserEntity;
+import com.sourabh.task_manager.repository.UserRepository;
+import com.sourabh.task_manager.security.JwtTokenService;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * p99 latency and peak in-flight requests under 1,000 concurrent clients, half
+ * of them reading cached profiles and half paging through the users table.
+ * Every JDBC statement is delayed to stand in for a network round trip, and the
+ * pool is smaller than Tomcat's thread pool, so the database is the bottleneck
+ * in both modes: the difference is whether cached reads queue behind it.
+ * Run with: mvn test -Pbenchmark -Dtest=VirtualThreadLoadBenchmark [-Dclients=1000]
+ * and again on JDK 21+ with -Dspring.threads.virtual.enabled=true
+ */
+@Tag("benchmark")
+@ActiveProfiles("dev")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:load;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "spring.datasource.hikari.leak-detection-threshold=0",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "logging.level.root=WARN",
+        "logging.level.org.springframework.web=WARN",
+        "logging.level.org.springframework.security=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.file.name=",
+        "server.tomcat.threads.max=200"
+})
+class VirtualThreadLoadBenchmark {
+
+    private static final int USERS = 1_000;
+    private static final int CLIENTS = Integer.getInteger("clients", 1_000);
+    private static final long STATEMENT_LATENCY_MILLIS = 5;
+    private static final long WARMUP_MILLIS = 5_000;
+    private static final long MEASURE_MILLIS = 15_000;
+
+    private static volatile boolean latencyEnabled;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenService jwtTokenService;
+
+    @Autowired
+    private InFlightFilter inFlight;
+
+    @Test
+    void cachedAndDatabaseReadsUnderLoad() throws Exception {
+        List<UserEntity> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(new UserEntity("user" + i, "user" + i + "@example.com",
+                    "$2a$10$abcdefghijklmnopqrstuuPZc1y2Qm0sS5qk7wV8F0f4a1WmC0h7Ga", "First" + i, "Last" + i));
+        }
+        long firstId = userRepository.saveAll(users).get(0).getId();
+        latencyEnabled = true;
+
+        String bearer = "Bearer " + jwtTokenService
+                .issueTokens("bench", List.of("ROLE_ADMIN")).get("accessToken");
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+
+        run(client, bearer, firstId, WARMUP_MILLIS);
+        inFlight.peak.set(0);
+        long[][] latencies = run(client, bearer, firstId, MEASURE_MILLIS);
+
+        System.out.printf("Mode: %s threads, %d clients, pool 20, %d ms per statement%n",
+                Threading.VIRTUAL.isActive(environment) ? "virtual" : "platform", CLIENTS, STATEMENT_LATENCY_MILLIS);
+        report("cached  GET /api/users/{id}", latencies[0]);
+        report("DB page GET /api/users     ", latencies[1]);
+        System.out.printf("Peak in-flight requests on the server: %d%n", inFlight.peak.get());
+    }
+
+    /**
+     * @return per-request latencies in microseconds, [0] cached reads and [1] page reads
+     */
+    private long[][] run(HttpClient client, String bearer, long firstId, long millis) throws Exception {
+        long deadline = System.nanoTime() + millis * 1_000_000;
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<long[][]>> results = new ArrayList<>(CLIENTS);
+        for (int c = 0; c < CLIENTS; c++) {
+            int clientIndex = c;
+            results.add(clients.submit(() -> {
+                LongList cached = new LongList();
+                LongList page = new LongList();
+                int i = 0;
+                while (System.nanoTime() < deadline) {
+                    boolean cachedRead = (clientIndex + i++) % 2 == 0;
+                    String path = cachedRead
+                            ? "/api/users/" + (firstId + (clientIndex % 100))
+                            : "/api/users?page=" + (i % 50) + "&size=20";
+                    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                            .header("Authorization", bearer)
+                            .timeout(Duration.ofSeconds(60))
+                            .build();
+                    long start = System.nanoTime();
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() != 200) {
+                        throw new IllegalStateException(path + " answered " + response.statusCode());
+                    }
+                    (cachedRead ? cached : page).add((System.nanoTime() - start) / 1_000);
+                }
+                return new long[][]{cached.toArray(), page.toArray()};
+            }));
+        }
+        LongList cached = new LongList();
+        LongList page = new LongList();
+        for (Future<long[][]> result : results) {
+            long[][] latencies = result.get();
+            cached.addAll(latencies[0]);
+            page.addAll(latencies[1]);
+        }
+        clients.shutdown();
+        return new long[][]{cached.toArray(), page.toArray()};
+    }
+
+    private static void report(String label, long[] micros) {
+        Arrays.sort(micros);
+        System.out.printf("%s %,9d requests  %8.1f req/s  p50 %7.1f ms  p99 %7.1f ms%n",
+                label, micros.length, micros.length / (MEASURE_MILLIS / 1e3),
+                percentile(micros, 0.50) / 1e3, percentile(micros, 0.99) / 1e3);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)];
+    }
+
+    @TestConfiguration
+    static class LoadConfig {
+
+        @Bean
+        InFlightFilter inFlightFilter() {
+            return new InFlightFilter();
+        }
+
+        /**
+         * Feeds the pool through a DataSource that sleeps on every statement prepared,
+         * once the test data is in
+         */
+        @Bean
+        static BeanPostProcessor statementLatency() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                    if (bean instanceof HikariDataSource pool) {
+                        DriverManagerDataSource database = new DriverManagerDataSource(
+                                pool.getJdbcUrl(), pool.getUsername(), pool.getPassword());
+                        pool.setDataSource(new DelegatingDataSource(database) {
+                            @Override
+                            public Connection getConnection() throws SQLException {
+                                return delayed(super.getConnection());
+                            }
+                        });
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        private static Connection delayed(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (latencyEnabled && (method.getName().startsWith("prepare")
+                                || method.getName().equals("createStatement"))) {
+                            Thread.sleep(STATEMENT_LATENCY_MILLIS);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+
+    static class InFlightFilter extends OncePerRequestFilter {
+
+        private final AtomicInteger current = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            peak.accumulateAndGet(current.incrementAndGet(), Math::max);
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                current.decrementAndGet();
+            }
+        }
+    }
+
+    private static final class LongList {
+
+        private long[] values = new long[256];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(long[] more) {
+            for (long value : more) {
+                add(value);
+            }
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.sourabh.task_manager.cache;
+
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import com.sourabh.task_manager.enums.UserRole;
+import com.sourabh.task_manager.security.UserDetailsCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class UserCacheInvalidatorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LoopbackInvalidationBus bus =
+            new LoopbackInvalidationBus(new InvalidationBusProperties(), meterRegistry);
+
+    @AfterEach
+    void closeBus() throws Exception {
+        bus.destroy();
+    }
+
+    @Test
+    void evictsOtherNodesAndSkipsOwnMessages() throws InterruptedException {
+        UserResponseCache localCache = new UserResponseCache(new UserResponseCacheProperties(), meterRegistry);
+        UserResponseCache remoteCache = new UserResponseCache(new UserResponseCacheProperties(), meterRegistry);
+        UserDetailsCache remoteDetails = mock(UserDetailsCache.class);
+        UserCacheInvalidator local =
+                new UserCacheInvalidator(bus, localCache, mock(UserDetailsCache.class), meterRegistry);
+        new UserCacheInvalidator(bus, remoteCache, remoteDetails, meterRegistry);
+
+        AtomicInteger remoteLoads = new AtomicInteger();
+        remoteCache.getById(1L, () -> load(remoteLoads));
+
+        local.invalidate(1L, "alice");
+
+        verify(remoteDetails, timeout(2000)).evict("alice");
+        remoteCache.getById(1L, () -> load(remoteLoads));
+        assertEquals(2, remoteLoads.get());
+        // Both invalidators see the batch; only the remote one applies it
+        assertEquals(1.0, meterRegistry.get("cache.invalidation.received").counter().count());
+    }
+
+    @Test
+    void forwardsIdentityChangesOnlyToOtherNodes() throws InterruptedException {
+        UserCacheInvalidator local = new UserCacheInvalidator(bus,
+                new UserResponseCache(new UserResponseCacheProperties(), meterRegistry),
+                mock(UserDetailsCache.class), meterRegistry);
+        UserCacheInvalidator remote = new UserCacheInvalidator(bus,
+                new UserResponseCache(new UserResponseCacheProperties(), meterRegistry),
+                mock(UserDetailsCache.class), meterRegistry);
+        List<List<Long>> localChanges = new CopyOnWriteArrayList<>();
+        List<List<Long>> remoteChanges = new CopyOnWriteArrayList<>();
+        local.subscribeIdentityChanges(localChanges::add);
+        remote.subscribeIdentityChanges(remoteChanges::add);
+
+        local.invalidate(1L, "alice");
+        local.invalidateIdentity(2L, "bob");
+
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (remoteChanges.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of(List.of(2L)), remoteChanges);
+        assertEquals(List.of(), localChanges);
+    }
+
+    @Test
+    void udpEncodingRoundTrips() throws Exception {
+        List<InvalidationMessage> batch = List.of(
+                new InvalidationMessage(7L, 1L, "alice", true, 1_000L),
+                new InvalidationMessage(7L, null, "bob", false, 2_000L),
+                new InvalidationMessage(-3L, 42L, null, false, 3_000L));
+
+        byte[] encoded = UdpInvalidationBus.encode(batch);
+
+        assertEquals(batch, UdpInvalidationBus.decode(encoded, encoded.length));
+    }
+
+    @Test
+    void udpDecodingRejectsBadCounts() {
+        byte[] negative = {0x55, 0x43, 2, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF};
+        byte[] huge = {0x55, 0x43, 2, 0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF};
+
+        assertThrows(IOException.class, () -> UdpInvalidationBus.decode(negative, negative.length));
+        assertThrows(IOException.class, () -> UdpInvalidationBus.decode(huge, huge.length));
+    }
+
+    @Test
+    void udpReceiverSurvivesCorruptDatagram() throws Exception {
+        InvalidationBusProperties properties = new InvalidationBusProperties();
+        properties.getUdp().setPort(0);
+        UdpInvalidationBus udp = new UdpInvalidationBus(properties, meterRegistry);
+        List<List<InvalidationMessage>> received = new CopyOnWriteArrayList<>();
+        udp.subscribe(received::add);
+        List<InvalidationMessage> batch = List.of(new InvalidationMessage(7L, 1L, "alice", true, 1_000L));
+
+        try (DatagramSocket sender = new DatagramSocket()) {
+            InetSocketAddress target = new InetSocketAddress(InetAddress.getLoopbackAddress(), udp.getLocalPort());
+            byte[] corrupt = {0x55, 0x43, 2, 0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0, 0};
+            sender.send(new DatagramPacket(corrupt, corrupt.length, target));
+            byte[] valid = UdpInvalidationBus.encode(batch);
+            sender.send(new DatagramPacket(valid, valid.length, target));
+
+            long deadline = System.currentTimeMillis() + 2_000;
+            while (received.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        } finally {
+            udp.destroy();
+        }
+
+        assertEquals(List.of(batch), received);
+        assertEquals(1.0, meterRegistry.get("cache.invalidation.malformed").counter().count());
+    }
+
+    private static Optional<UserResponseDTO> load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return Optional.of(new UserResponseDTO(1L, "alice", "alice@example.com", "Alice", "Smith", UserRole.USER, true));
+    }
+}
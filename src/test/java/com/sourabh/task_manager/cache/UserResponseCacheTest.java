@@ -0,0 +1,98 @@
+package com.sourabh.task_manager.cache;
+
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import com.sourabh.task_manager.enums.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UserResponseCacheTest {
+
+    private final UserResponseCache cache =
+            new UserResponseCache(new UserResponseCacheProperties(), new SimpleMeterRegistry());
+
+    @Test
+    void sharesOneEntryAcrossIdUsernameAndEmail() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getByUsername("alice", () -> load(loads, user("alice")));
+        cache.getById(1L, () -> load(loads, user("alice")));
+        cache.getByEmail("alice@example.com", () -> load(loads, user("alice")));
+        assertEquals(1, loads.get());
+
+        cache.invalidate(1L);
+        cache.getByEmail("alice@example.com", () -> load(loads, user("alice")));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void doesNotCacheLoadThatOverlapsInvalidation() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getById(1L, () -> {
+            // A concurrent update commits while this (stale) read is in flight
+            cache.invalidate(1L);
+            return load(loads, user("alice"));
+        });
+        cache.getById(1L, () -> load(loads, user("alice")));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void cachesLoadThatOverlapsInvalidationOfAnotherUser() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getById(2L, () -> {
+            // A last-login flush for someone else must not keep this user uncached
+            cache.invalidate(1L);
+            return load(loads, user(2L, "bob"));
+        });
+        cache.getById(2L, () -> load(loads, user(2L, "bob")));
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void doesNotCacheLoadThatOverlapsInvalidateAll() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getByUsername("bob", () -> {
+            cache.invalidateAll();
+            return load(loads, user(2L, "bob"));
+        });
+        cache.getByUsername("bob", () -> load(loads, user(2L, "bob")));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void ignoresAliasAfterRename() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.getByUsername("alice", () -> load(loads, user("alice")));
+        cache.invalidate(1L);
+        cache.getById(1L, () -> load(loads, user("alicia")));
+
+        Optional<UserResponseDTO> renamed = cache.getByUsername("alice", () -> load(loads, null));
+
+        assertEquals(Optional.empty(), renamed);
+        assertEquals(3, loads.get());
+    }
+
+    private static Optional<UserResponseDTO> load(AtomicInteger loads, UserResponseDTO user) {
+        loads.incrementAndGet();
+        return Optional.ofNullable(user);
+    }
+
+    private static UserResponseDTO user(String username) {
+        return new UserResponseDTO(1L, username, "alice@example.com", "Alice", "Smith", UserRole.USER, true);
+    }
+
+    private static UserResponseDTO user(Long id, String username) {
+        return new UserResponseDTO(id, username, username + "@example.com", "Bob", "Jones", UserRole.USER, true);
+    }
+}
@@ -0,0 +1,35 @@
+package com.sourabh.task_manager.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConcurrencyLimitingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:limit;DB_CLOSE_DELAY=-1"), "test", 2, 50, () -> meterRegistry);
+
+    @Test
+    void waitsForPermitAndReleasesOnClose() throws Exception {
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        assertEquals(2.0, meterRegistry.get("datasource.permits.in_use").gauge().value());
+
+        first.close();
+        first.close();
+        try (Connection third = dataSource.getConnection()) {
+            assertEquals(2.0, meterRegistry.get("datasource.permits.in_use").gauge().value());
+        }
+        second.close();
+        assertEquals(0.0, meterRegistry.get("datasource.permits.in_use").gauge().value());
+    }
+}
@@ -0,0 +1,90 @@
+package com.sourabh.task_manager.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReadYourWrites readYourWrites = new ReadYourWrites(new ReadYourWritesProperties());
+
+    @AfterEach
+    void endRequest() {
+        readYourWrites.end(null);
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToReplica() {
+        JdbcTemplate jdbc = new JdbcTemplate(routing(database("primary"), database("replica")));
+
+        assertEquals("replica", readOnly(jdbc).execute(status -> whoAmI(jdbc)));
+        assertEquals("primary", readWrite(jdbc).execute(status -> whoAmI(jdbc)));
+    }
+
+    @Test
+    void keepsWritersOnPrimaryWithinWindow() {
+        JdbcTemplate jdbc = new JdbcTemplate(routing(database("primary"), database("replica")));
+
+        readYourWrites.begin("alice");
+        readWrite(jdbc).executeWithoutResult(status -> jdbc.update("UPDATE node SET writes = writes + 1"));
+        assertEquals("primary", readOnly(jdbc).execute(status -> whoAmI(jdbc)));
+        readYourWrites.end("alice");
+
+        readYourWrites.begin("alice");
+        assertEquals("primary", readOnly(jdbc).execute(status -> whoAmI(jdbc)));
+        readYourWrites.end("alice");
+
+        readYourWrites.begin("bob");
+        assertEquals("replica", readOnly(jdbc).execute(status -> whoAmI(jdbc)));
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaIsDown() {
+        DataSource unreachable = new DriverManagerDataSource("jdbc:h2:mem:missing;IFEXISTS=TRUE");
+        JdbcTemplate jdbc = new JdbcTemplate(routing(database("primary"), unreachable));
+
+        assertEquals("primary", readOnly(jdbc).execute(status -> whoAmI(jdbc)));
+        assertEquals(1.0, meterRegistry.get("datasource.replica.fallbacks").counter().count());
+    }
+
+    private DataSource routing(DataSource primary, DataSource replica) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replica, readYourWrites, () -> meterRegistry));
+    }
+
+    private static TransactionTemplate readOnly(JdbcTemplate jdbc) {
+        TransactionTemplate template = readWrite(jdbc);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private static TransactionTemplate readWrite(JdbcTemplate jdbc) {
+        return new TransactionTemplate(new DataSourceTransactionManager(jdbc.getDataSource()));
+    }
+
+    private static String whoAmI(JdbcTemplate jdbc) {
+        return jdbc.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    /**
+     * A private in-memory database standing in for one server
+     */
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(16), writes INT)");
+        jdbc.update("INSERT INTO node VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,51 @@
+package com.sourabh.task_manager.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sourabh.task_manager.dto.response.PageResponseDTO;
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import com.sourabh.task_manager.enums.UserRole;
+import com.sourabh.task_manager.util.ApiResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ResponseJsonModuleTest {
+
+    private final ObjectMapper beanMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ObjectMapper moduleMapper = beanMapper.copy().registerModule(new ResponseJsonModule());
+
+    @Test
+    void writesSameJsonAsBeanSerializer() throws Exception {
+        UserResponseDTO full = new UserResponseDTO(1L, "alice", "alice@example.com", "Alice", "Smith", "+1-555-0100",
+                UserRole.ADMIN, true, false, LocalDateTime.of(2024, 1, 2, 3, 4, 5, 120_000_000),
+                LocalDateTime.of(2024, 12, 31, 23, 59), LocalDateTime.of(999, 6, 7, 8, 9, 10, 1));
+        UserResponseDTO basic = new UserResponseDTO(2L, "bob", "Bob", "Jones", UserRole.USER, null);
+        List<UserResponseDTO> users = new ArrayList<>(List.of(full, basic));
+        users.add(null);
+        ApiResponse<PageResponseDTO<UserResponseDTO>> response =
+                new ApiResponse<>(true, "Users retrieved successfully", new PageResponseDTO<>(users, 0, 3, true, 7L));
+
+        assertEquals(beanMapper.writeValueAsString(response), moduleMapper.writeValueAsString(response));
+        ApiResponse<List<UserResponseDTO>> list = new ApiResponse<>(false, null, List.of(basic));
+        assertEquals(beanMapper.writeValueAsString(list), moduleMapper.writeValueAsString(list));
+    }
+
+    @Test
+    void formatsTimestampsLikeIsoLocalDateTime() {
+        char[] buffer = new char[29];
+        for (int nano : new int[]{0, 1, 10, 100_000_000, 123_456_789, 123_000_000, 120_000}) {
+            LocalDateTime value = LocalDateTime.of(2024, 2, 29, 0, 7, 9, nano);
+            int length = UserResponseDTOSerializer.formatIsoLocalDateTime(value, buffer);
+            assertEquals(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), new String(buffer, 0, length));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.sourabh.task_manager.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.spi.ThrowableProxy;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchingAsyncAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("test");
+
+    BatchingAsyncAppenderTest() {
+        context.setMDCAdapter(new LogbackMDCAdapter());
+    }
+
+    @Test
+    void dropsDebugFirstAndCountsDrops() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<ILoggingEvent> written = new CopyOnWriteArrayList<>();
+        AppenderBase<ILoggingEvent> slow = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                written.add(event);
+            }
+        };
+        slow.setContext(context);
+        slow.start();
+
+        BatchingAsyncAppender appender = new BatchingAsyncAppender();
+        appender.setContext(context);
+        appender.setName("test");
+        appender.setQueueSize(10);
+        appender.setDiscardingThreshold(5);
+        appender.addAppender(slow);
+        appender.start();
+
+        // The first event is taken by the writer thread, which then stalls in the slow appender
+        appender.doAppend(event(Level.INFO, "head"));
+        while (appender.getQueueDepth() > 0) {
+            Thread.onSpinWait();
+        }
+        for (int i = 0; i < 10; i++) {
+            appender.doAppend(event(Level.INFO, "info " + i));
+        }
+        appender.doAppend(event(Level.DEBUG, "debug"));
+        appender.doAppend(event(Level.WARN, "overflow"));
+
+        assertEquals(10, appender.getQueueDepth());
+        assertEquals(1, appender.getDroppedCount(Level.DEBUG));
+        assertEquals(1, appender.getDroppedCount(Level.WARN));
+        assertEquals(0, appender.getDroppedCount(Level.INFO));
+
+        release.countDown();
+        appender.stop();
+        assertEquals(11, written.size());
+    }
+
+    @Test
+    void encodesOneJsonObjectPerLine() throws Exception {
+        LoggingEvent event = event(Level.ERROR, "quote \" tab \t café 😀 {}");
+        event.setArgumentArray(new Object[]{"arg"});
+        event.setThrowableProxy(new ThrowableProxy(new IllegalStateException("boom")));
+        event.setMDCPropertyMap(Map.of("requestId", "r-1"));
+        event.setTimeStamp(1_700_000_000_123L);
+
+        JsonLineEncoder encoder = new JsonLineEncoder();
+        encoder.setContext(context);
+        encoder.start();
+        String line = new String(encoder.encode(event), StandardCharsets.UTF_8);
+
+        assertTrue(line.endsWith("}\n"));
+        assertEquals(1, line.split("\n").length);
+        JsonNode json = new ObjectMapper().readTree(line);
+        assertEquals("2023-11-14T22:13:20.123Z", json.get("timestamp").asText());
+        assertEquals("ERROR", json.get("level").asText());
+        assertEquals("test", json.get("logger").asText());
+        assertEquals("quote \" tab \t café 😀 arg", json.get("message").asText());
+        assertEquals("r-1", json.get("mdc").get("requestId").asText());
+        assertTrue(json.get("exception").asText().startsWith("java.lang.IllegalStateException: boom"));
+    }
+
+    private LoggingEvent event(Level level, String message) {
+        LoggingEvent event = new LoggingEvent(Logger.class.getName(), logger, level, message, null, null);
+        event.setThreadName("main");
+        return event;
+    }
+}
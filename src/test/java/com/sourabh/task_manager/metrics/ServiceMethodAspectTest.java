@@ -0,0 +1,112 @@
+package com.sourabh.task_manager.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ServiceMethodAspectTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ServiceMethodAspect aspect = new ServiceMethodAspect(registry);
+
+    @Test
+    void tagsFailuresWithTheExceptionType() throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint("greet");
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        assertThrows(IllegalStateException.class, () -> aspect.aroundServiceMethod(joinPoint));
+
+        assertEquals(1, timer("greet", "IllegalStateException").count());
+        assertEquals(0, timer("greet", "none").count());
+    }
+
+    @Test
+    void recordsMonoOnCompletionNotAtSubscription() throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint("greetLater");
+        when(joinPoint.proceed()).thenReturn(Mono.never());
+
+        Mono<?> result = (Mono<?>) aspect.aroundServiceMethod(joinPoint);
+        result.subscribe();
+        assertEquals(0, timer("greetLater", "none").count());
+
+        when(joinPoint.proceed()).thenReturn(Mono.just("hello"));
+        ((Mono<?>) aspect.aroundServiceMethod(joinPoint)).block();
+        assertEquals(1, timer("greetLater", "none").count());
+    }
+
+    @Test
+    void recordsMonoErrorWithTheExceptionType() throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint("greetLater");
+        when(joinPoint.proceed()).thenReturn(Mono.error(new IllegalArgumentException("bad name")));
+
+        Mono<?> result = (Mono<?>) aspect.aroundServiceMethod(joinPoint);
+        assertNull(registry.find("service.method").tag("exception", "IllegalArgumentException").timer());
+
+        assertThrows(IllegalArgumentException.class, result::block);
+        assertEquals(1, timer("greetLater", "IllegalArgumentException").count());
+        assertEquals(0, timer("greetLater", "none").count());
+    }
+
+    @Test
+    void registersMetersOncePerMethod() throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint("greet");
+        when(joinPoint.proceed()).thenReturn("hello");
+
+        aspect.aroundServiceMethod(joinPoint);
+        Timer first = timer("greet", "none");
+        aspect.aroundServiceMethod(joinPoint);
+
+        assertSame(first, timer("greet", "none"));
+        assertEquals(2, first.count());
+        Collection<Timer> timers = registry.find("service.method").timers();
+        assertEquals(1, timers.size());
+    }
+
+    private Timer timer(String method, String exception) {
+        return registry.get("service.method")
+                .tag("class", "GreetingService")
+                .tag("method", method)
+                .tag("exception", exception)
+                .timer();
+    }
+
+    private static ProceedingJoinPoint joinPoint(String methodName) throws NoSuchMethodException {
+        Method method = GreetingServiceImpl.class.getMethod(methodName);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(method);
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        return joinPoint;
+    }
+
+    interface GreetingService {
+        String greet();
+
+        Mono<String> greetLater();
+    }
+
+    static class GreetingServiceImpl implements GreetingService {
+        @Override
+        public String greet() {
+            return "hello";
+        }
+
+        @Override
+        public Mono<String> greetLater() {
+            return Mono.just("hello");
+        }
+    }
+}
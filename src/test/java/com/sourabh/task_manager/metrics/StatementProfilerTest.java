@@ -0,0 +1,71 @@
+package com.sourabh.task_manager.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StatementProfilerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StatementProfiler profiler = new StatementProfiler(new StatementProfilerProperties(), meterRegistry);
+    private final JdbcTemplate jdbc = new JdbcTemplate(new ProfilingDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:profiling;DB_CLOSE_DELAY=-1"), () -> profiler));
+
+    @Test
+    void recordsRowsBindsAndCallingMethod() {
+        jdbc.execute("CREATE TABLE IF NOT EXISTS item (id INT PRIMARY KEY, name VARCHAR(16))");
+        jdbc.update("DELETE FROM item");
+        jdbc.batchUpdate("INSERT INTO item VALUES (?, ?)", List.of(
+                new Object[]{1, "a"}, new Object[]{2, "b"}, new Object[]{3, "c"}));
+        profiler.reset();
+
+        String[] previous = ServiceMethodContext.enter("UserService", "getActiveUsers");
+        try {
+            jdbc.queryForList("SELECT name FROM item WHERE id > ? AND name <> ?", String.class, 1, "z");
+        } finally {
+            ServiceMethodContext.restore(previous);
+        }
+        jdbc.update("UPDATE item SET name = 'x' WHERE id = 3");
+
+        List<StatementProfiler.StatementSummary> top = profiler.top(null, StatementProfiler.Order.COUNT);
+        StatementProfiler.StatementSummary select = find(top, "SELECT");
+        assertEquals("SELECT name FROM item WHERE id > ? AND name <> ?", select.sql());
+        assertEquals("UserService.getActiveUsers", select.method());
+        assertEquals("none", select.route());
+        assertEquals(2, select.rows());
+        assertEquals(2.0, select.meanBinds());
+        StatementProfiler.StatementSummary update = find(top, "UPDATE");
+        assertEquals("UPDATE item SET name = ? WHERE id = ?", update.sql());
+        assertEquals(1, update.rows());
+    }
+
+    @Test
+    void flagsStatementsRepeatedWithinRequest() {
+        jdbc.execute("CREATE TABLE IF NOT EXISTS item (id INT PRIMARY KEY, name VARCHAR(16))");
+
+        profiler.beginRequest();
+        for (int i = 0; i < 10; i++) {
+            jdbc.queryForList("SELECT name FROM item WHERE id = " + i, String.class);
+        }
+        jdbc.queryForList("SELECT name FROM item", String.class);
+        profiler.endRequest("GET /api/users");
+
+        assertEquals(1.0, meterRegistry.get("jdbc.statements.repeated").tag("route", "GET /api/users").counter().count());
+    }
+
+    @Test
+    void normalizesLiteralsWhitespaceAndInLists() {
+        assertEquals("select u1_0.id from users u1_0 where u1_0.id in (?) and u1_0.name=? and t2.x=-?",
+                StatementProfiler.normalize("select\n        u1_0.id \n    from\n        users u1_0 \n    where\n"
+                        + "        u1_0.id in (?, ?,?) and u1_0.name='it''s' and t2.x=-1.5"));
+    }
+
+    private static StatementProfiler.StatementSummary find(List<StatementProfiler.StatementSummary> top, String prefix) {
+        return top.stream().filter(s -> s.sql().startsWith(prefix)).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,96 @@
+package com.sourabh.task_manager.repository;
+
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import com.sourabh.task_manager.enums.UserRole;
+import com.sourabh.task_manager.util.InvalidRequestException;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReactiveUserRepositoryTest {
+
+    private DatabaseClient databaseClient;
+    private ReactiveUserRepository repository;
+
+    @BeforeEach
+    void createUsers() {
+        databaseClient = DatabaseClient.create(ConnectionFactories.get(
+                "r2dbc:h2:mem:///users" + System.nanoTime() + "?options=DB_CLOSE_DELAY=-1"));
+        repository = new ReactiveUserRepository(databaseClient);
+
+        databaseClient.sql("CREATE TABLE users (id BIGINT PRIMARY KEY, username VARCHAR(50), email VARCHAR(100), " +
+                "password VARCHAR(255), first_name VARCHAR(50), last_name VARCHAR(50), phone_number VARCHAR(20), " +
+                "role VARCHAR(16), is_active BOOLEAN, is_email_verified BOOLEAN, created_at TIMESTAMP, " +
+                "updated_at TIMESTAMP, last_login TIMESTAMP)").then().block();
+        LocalDateTime now = LocalDateTime.now();
+        insert(1L, "alice", "Alice", "Smith", UserRole.ADMIN, true, now.minusDays(1));
+        insert(2L, "bob", "Bob", "Jones", UserRole.USER, true, now.minusDays(60));
+        insert(3L, "carol", "Carol", "Smithers", UserRole.USER, false, null);
+    }
+
+    @Test
+    void findsByIdUsernameAndEmail() {
+        UserResponseDTO alice = repository.findUserDTOById(1L).block();
+        assertEquals("alice", alice.getUsername());
+        assertEquals(UserRole.ADMIN, alice.getRole());
+        assertEquals("alice", repository.findUserDTOByUsername("alice").block().getUsername());
+        assertEquals(2L, repository.findUserDTOByEmail("bob@example.com").block().getId());
+        assertNull(repository.findUserDTOById(99L).block());
+    }
+
+    @Test
+    void pagesAndSearches() {
+        List<UserResponseDTO> page = repository.findAllUserDTOs(PageRequest.of(0, 2, Sort.by("username").descending()))
+                .collectList().block();
+        assertEquals(List.of("carol", "bob"), page.stream().map(UserResponseDTO::getUsername).toList());
+        assertEquals(3L, repository.count().block());
+
+        List<UserResponseDTO> smiths = repository.searchUserDTOsByName("smith", PageRequest.of(0, 10, Sort.by("id")))
+                .collectList().block();
+        assertEquals(List.of(1L, 3L), smiths.stream().map(UserResponseDTO::getId).toList());
+        assertEquals(2L, repository.countByName("smith").block());
+
+        assertThrows(InvalidRequestException.class,
+                () -> repository.findAllUserDTOs(PageRequest.of(0, 10, Sort.by("password"))));
+    }
+
+    @Test
+    void filtersByRoleActivityAndLastLogin() {
+        assertEquals(2, repository.findActiveUserDTOs().count().block());
+        UserResponseDTO basic = repository.findUserBasicDTOsByRole(UserRole.ADMIN).blockFirst();
+        assertEquals("alice", basic.getUsername());
+        assertNull(basic.getEmail());
+        assertEquals(2, repository.findUserDTOsByRole(UserRole.USER).count().block());
+        assertEquals(List.of(2L, 3L), repository.findInactiveUserDTOsSince(LocalDateTime.now().minusDays(30))
+                .map(UserResponseDTO::getId).sort().collectList().block());
+        assertEquals(2, repository.findUserDTOsByIdIn(List.of(1L, 3L)).count().block());
+    }
+
+    private void insert(Long id, String username, String firstName, String lastName,
+                        UserRole role, boolean active, LocalDateTime lastLogin) {
+        LocalDateTime now = LocalDateTime.now();
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("INSERT INTO users VALUES " +
+                        "(:id, :username, :email, 'hash', :firstName, :lastName, NULL, :role, :active, TRUE, " +
+                        ":now, :now, :lastLogin)")
+                .bind("id", id)
+                .bind("username", username)
+                .bind("email", username + "@example.com")
+                .bind("firstName", firstName)
+                .bind("lastName", lastName)
+                .bind("role", role.name())
+                .bind("active", active)
+                .bind("now", now);
+        spec = lastLogin == null ? spec.bindNull("lastLogin", LocalDateTime.class) : spec.bind("lastLogin", lastLogin);
+        spec.then().block();
+    }
+}
@@ -0,0 +1,67 @@
+package com.sourabh.task_manager.repository;
+
+import com.sourabh.task_manager.dto.request.UserFieldSet;
+import com.sourabh.task_manager.entity.UserEntity;
+import com.sourabh.task_manager.util.InvalidRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+@Import(UserFieldsRepository.class)
+class UserFieldsRepositoryTest {
+
+    private static final String PASSWORD_HASH = "$2a$10$abcdefghijklmnopqrstuuPZc1y2Qm0sS5qk7wV8F0f4a1WmC0h7Ga";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserFieldsRepository userFieldsRepository;
+
+    private Long bobId;
+
+    @BeforeEach
+    void seed() {
+        userRepository.save(new UserEntity("alice", "alice@example.com", PASSWORD_HASH, "Alice", "Smith"));
+        bobId = userRepository.save(new UserEntity("bob", "bob@example.com", PASSWORD_HASH, "Bob", "Jones")).getId();
+    }
+
+    @Test
+    void returnsOnlyRequestedPropertiesInDtoOrder() {
+        List<Map<String, Object>> users = userFieldsRepository.findAll(UserSpecifications.all(),
+                UserFieldSet.parse("fullName, username"), Sort.by("username"));
+
+        assertEquals(List.of(Map.of("username", "alice", "fullName", "Alice Smith"),
+                Map.of("username", "bob", "fullName", "Bob Jones")), users);
+        assertEquals(List.of("username", "fullName"), List.copyOf(users.get(0).keySet()));
+    }
+
+    @Test
+    void pagesAndKeysByIdWithoutReturningIt() {
+        Page<Map<String, Object>> page = userFieldsRepository.findAll(UserSpecifications.all(),
+                UserFieldSet.parse("email"), PageRequest.of(0, 1, Sort.by("username").descending()));
+        assertEquals(List.of(Map.of("email", "bob@example.com")), page.getContent());
+        assertEquals(2, page.getTotalElements());
+
+        Map<Long, Map<String, Object>> byId = userFieldsRepository.findAllById(List.of(bobId), UserFieldSet.parse("role"));
+        assertEquals(Map.of(bobId, Map.of("role", userRepository.findById(bobId).orElseThrow().getRole())), byId);
+    }
+
+    @Test
+    void rejectsUnknownOrEmptyFields() {
+        assertThrows(InvalidRequestException.class, () -> UserFieldSet.parse("id,password"));
+        assertThrows(InvalidRequestException.class, () -> UserFieldSet.parse(" , "));
+    }
+}
@@ -0,0 +1,33 @@
+package com.sourabh.task_manager.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    @Test
+    void hasNoFalseNegativesAndStaysNearTargetRate() {
+        int inserted = 50_000;
+        BloomFilter filter = new BloomFilter(inserted, 0.01);
+        for (int i = 0; i < inserted; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        for (int i = 0; i < inserted; i++) {
+            assertTrue(filter.mightContain("user" + i + "@example.com"));
+        }
+
+        int probes = 100_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("absent" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+        double observed = (double) falsePositives / probes;
+        assertTrue(observed < 0.02, "observed false-positive rate " + observed);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.005);
+    }
+}
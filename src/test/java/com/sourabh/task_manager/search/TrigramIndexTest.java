@@ -0,0 +1,74 @@
+package com.sourabh.task_manager.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrigramIndexTest {
+
+    @Test
+    void matchesSubstringsCaseInsensitively() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, "jsmith", "John", "Smith");
+        index.put(2, "ablacksmith", "Anna", "Black");
+        index.put(3, "mjones", "Mary", "Jones");
+
+        assertEquals(List.of(1L, 2L), ids(index.search("SMITH")));
+        assertEquals(List.of(3L), ids(index.search("ary")));
+        assertTrue(index.search("xyz").isEmpty());
+    }
+
+    @Test
+    void ranksExactAndPrefixMatchesFirst() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, "user1", "Bob", "Robertson");
+        index.put(2, "bob", "Robert", "Smith");
+        index.put(3, "bobby", "Alice", "Doe");
+
+        // exact username, then exact first name, then username prefix
+        assertEquals(List.of(2L, 1L, 3L), ids(index.search("bob")));
+    }
+
+    @Test
+    void shortTermsFallBackToScan() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, "al", "Al", "Li");
+        index.put(2, "bo", "Bo", "Xu");
+
+        assertEquals(List.of(1L), ids(index.search("l")));
+    }
+
+    @Test
+    void updatesAndRemovalsAreReflected() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, "jsmith", "John", "Smith");
+        index.put(1, "jsmith", "John", "Doe");
+        assertEquals(List.of(1L), ids(index.search("doe")));
+        assertTrue(index.search("mith").stream().allMatch(hit -> hit.id() == 1L));
+
+        index.remove(1);
+        assertTrue(index.search("jsmith").isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void mergesPartialIndexes() {
+        TrigramIndex first = new TrigramIndex();
+        first.put(3, "carol", "Carol", "King");
+        TrigramIndex second = new TrigramIndex();
+        second.put(1, "caroline", "Caroline", "Wu");
+
+        TrigramIndex merged = new TrigramIndex();
+        merged.mergeFrom(first);
+        merged.mergeFrom(second);
+
+        assertEquals(List.of(3L, 1L), ids(merged.search("carol")));
+    }
+
+    private static List<Long> ids(List<TrigramIndex.Hit> hits) {
+        return hits.stream().map(TrigramIndex.Hit::id).toList();
+    }
+}
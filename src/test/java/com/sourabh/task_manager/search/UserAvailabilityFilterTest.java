@@ -0,0 +1,87 @@
+package com.sourabh.task_manager.search;
+
+import com.sourabh.task_manager.repository.UserBatchRepository;
+import com.sourabh.task_manager.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class UserAvailabilityFilterTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserBatchRepository userBatchRepository = mock(UserBatchRepository.class);
+    private final UserAvailabilityFilter filter = new UserAvailabilityFilter(userRepository, userBatchRepository,
+            new UserAvailabilityProperties(), new SimpleMeterRegistry());
+
+    @Test
+    void rebuildLoadsExistingUsers() {
+        scan(identities -> identities.accept("alice", "alice@example.com"));
+
+        filter.rebuild();
+
+        assertTrue(filter.mightContainUsername("alice"));
+        assertTrue(filter.mightContainEmail("alice@example.com"));
+        assertFalse(filter.mightContainUsername("bob"));
+    }
+
+    @Test
+    void keepsRegistrationCommittedWhileRebuildScans() {
+        filter.rebuild();
+        // Put before the write commits, into the filters the rebuild is about to replace
+        filter.put("carol", "carol@example.com");
+        scan(identities -> {
+            identities.accept("alice", "alice@example.com");
+            // The scan has passed carol's uncommitted row when the registration commits
+            filter.putCommitted("carol", "carol@example.com");
+        });
+
+        filter.rebuild();
+
+        assertTrue(filter.mightContainUsername("carol"));
+        assertTrue(filter.mightContainEmail("carol@example.com"));
+    }
+
+    @Test
+    void putCommittedWaitsForTheTransactionToCommit() {
+        filter.rebuild();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            filter.putCommitted("dave", "dave@example.com");
+            assertFalse(filter.mightContainUsername("dave"));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertTrue(filter.mightContainUsername("dave"));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void doesNotBuildAfterShutdown() throws Exception {
+        filter.destroy();
+
+        filter.rebuild();
+
+        verify(userBatchRepository, never()).forEachIdentity(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void scan(Consumer<BiConsumer<String, String>> rows) {
+        doAnswer(invocation -> {
+            rows.accept(invocation.getArgument(0, BiConsumer.class));
+            return null;
+        }).when(userBatchRepository).forEachIdentity(any());
+    }
+}
@@ -0,0 +1,34 @@
+package com.sourabh.task_manager.search;
+
+import com.sourabh.task_manager.cache.UserCacheInvalidator;
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import com.sourabh.task_manager.enums.UserRole;
+import com.sourabh.task_manager.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserIdentitySyncTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserSearchIndex userSearchIndex = mock(UserSearchIndex.class);
+    private final UserAvailabilityFilter userAvailabilityFilter = mock(UserAvailabilityFilter.class);
+    private final UserIdentitySync sync = new UserIdentitySync(userRepository, userSearchIndex,
+            userAvailabilityFilter, mock(UserCacheInvalidator.class));
+
+    @Test
+    void reindexesChangedUsersAndRemovesDeletedOnes() {
+        when(userRepository.findUserDTOsByIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                new UserResponseDTO(1L, "alice", "alice@example.com", "Alice", "Smith", UserRole.USER, true)));
+
+        sync.apply(List.of(1L, 2L));
+
+        verify(userSearchIndex).put(1L, "alice", "Alice", "Smith");
+        verify(userAvailabilityFilter).put("alice", "alice@example.com");
+        verify(userSearchIndex).remove(2L);
+    }
+}
@@ -0,0 +1,42 @@
+package com.sourabh.task_manager.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtTokenServiceTest {
+
+    private static final String SECRET = "RMrEiI2oVLBGlk0RZKLO8kr9azm58zBUN6crnOkTV6GlYrIsEGm8fljKngcuQS0X";
+
+    @Test
+    void refreshTokenCanBeRedeemedOnlyOnce() {
+        JwtTokenService service = service();
+        String refreshToken = (String) service.issueTokens("alice", List.of("ROLE_USER")).get("refreshToken");
+
+        assertTrue(service.redeemRefreshToken(refreshToken).isPresent());
+        assertFalse(service.redeemRefreshToken(refreshToken).isPresent());
+    }
+
+    @Test
+    void accessTokenIsNotARefreshToken() {
+        JwtTokenService service = service();
+        String accessToken = (String) service.issueTokens("alice", List.of("ROLE_USER")).get("accessToken");
+
+        assertFalse(service.redeemRefreshToken(accessToken).isPresent());
+    }
+
+    @Test
+    void missingSecretFailsStartup() {
+        assertThrows(IllegalStateException.class, () -> new JwtTokenService(new JwtProperties()));
+    }
+
+    private static JwtTokenService service() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        return new JwtTokenService(properties);
+    }
+}
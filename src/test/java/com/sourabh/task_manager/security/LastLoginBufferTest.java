@@ -0,0 +1,60 @@
+package com.sourabh.task_manager.security;
+
+import com.sourabh.task_manager.cache.UserCacheInvalidator;
+import com.sourabh.task_manager.repository.UserBatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class LastLoginBufferTest {
+
+    private static final LocalDateTime EARLY = LocalDateTime.of(2025, 1, 1, 9, 0);
+    private static final LocalDateTime LATE = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @Test
+    void coalescesToLatestTimestampPerUser() throws Exception {
+        UserBatchRepository repository = mock(UserBatchRepository.class);
+        LastLoginBuffer buffer = buffer(repository);
+
+        buffer.record(1L, LATE);
+        buffer.record(1L, EARLY);
+        buffer.record(2L, EARLY);
+        assertEquals(2, buffer.pendingCount());
+
+        assertEquals(2, buffer.flush());
+        verify(repository).updateLastLogins(Map.of(1L, LATE, 2L, EARLY), 500);
+        assertEquals(0, buffer.pendingCount());
+        buffer.destroy();
+    }
+
+    @Test
+    void keepsEntriesWhenFlushFails() throws Exception {
+        UserBatchRepository repository = mock(UserBatchRepository.class);
+        doThrow(new IllegalStateException("database down")).when(repository).updateLastLogins(anyMap(), anyInt());
+        LastLoginBuffer buffer = buffer(repository);
+
+        buffer.record(1L, EARLY);
+        assertThrows(IllegalStateException.class, buffer::flush);
+        buffer.record(1L, LATE);
+
+        assertEquals(1, buffer.pendingCount());
+        buffer.destroy();
+    }
+
+    private static LastLoginBuffer buffer(UserBatchRepository repository) {
+        LastLoginBufferProperties properties = new LastLoginBufferProperties();
+        properties.setFlushInterval(Duration.ofHours(1));
+        return new LastLoginBuffer(repository, mock(UserCacheInvalidator.class), properties, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,87 @@
+package com.sourabh.task_manager.security;
+
+import com.sourabh.task_manager.util.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordHashingExecutorTest {
+
+    @Test
+    void rejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(blockingEncoder, properties, registry);
+
+        try {
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> executor.encode("a"));
+            started.await();
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> executor.encode("b"));
+            while (registry.get("password.hashing.queue.depth").gauge().value() < 1) {
+                Thread.onSpinWait();
+            }
+
+            ServiceBusyException ex = assertThrows(ServiceBusyException.class, () -> executor.encode("c"));
+            assertTrue(ex.getRetryAfterSeconds() >= 1);
+
+            release.countDown();
+            assertEquals("a", running.get());
+            assertEquals("b", queued.get());
+            assertEquals(1.0, registry.get("password.hashing.rejected").counter().count());
+        } finally {
+            release.countDown();
+            executor.destroy();
+        }
+    }
+
+    @Test
+    void matchesRunsOnPool() {
+        PasswordEncoder plainTextEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(
+                plainTextEncoder, new PasswordHashingProperties(), new SimpleMeterRegistry());
+        try {
+            assertTrue(executor.matches("secret", "secret"));
+        } finally {
+            executor.destroy();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.sourabh.task_manager.service.impl;
+
+import com.sourabh.task_manager.cache.InvalidationBusProperties;
+import com.sourabh.task_manager.cache.LoopbackInvalidationBus;
+import com.sourabh.task_manager.cache.UserCacheInvalidator;
+import com.sourabh.task_manager.cache.UserResponseCache;
+import com.sourabh.task_manager.cache.UserResponseCacheProperties;
+import com.sourabh.task_manager.entity.UserAuthEntity;
+import com.sourabh.task_manager.repository.UserAuthEntityRepository;
+import com.sourabh.task_manager.security.UserDetailsCache;
+import com.sourabh.task_manager.security.UserDetailsCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserAuthEntityServiceImplTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LoopbackInvalidationBus bus =
+            new LoopbackInvalidationBus(new InvalidationBusProperties(), meterRegistry);
+    private final UserAuthEntityRepository userAuthEntityRepository = mock(UserAuthEntityRepository.class);
+    private final UserDetailsCache userDetailsCache = new UserDetailsCache(new UserDetailsCacheProperties(), meterRegistry);
+    private final UserCacheInvalidator invalidator = new UserCacheInvalidator(bus,
+            new UserResponseCache(new UserResponseCacheProperties(), meterRegistry), userDetailsCache, meterRegistry);
+
+    @AfterEach
+    void closeBus() throws Exception {
+        bus.destroy();
+    }
+
+    @Test
+    void savingAccountEvictsItsCachedDetails() {
+        UserAuthEntityServiceImpl authService = new UserAuthEntityServiceImpl();
+        ReflectionTestUtils.setField(authService, "userAuthEntityRepository", userAuthEntityRepository);
+        ReflectionTestUtils.setField(authService, "userDetailsCache", userDetailsCache);
+        ReflectionTestUtils.setField(authService, "userCacheInvalidator", invalidator);
+
+        UserAuthEntity before = new UserAuthEntity("alice", "{noop}secret", "ROLE_USER");
+        UserAuthEntity after = new UserAuthEntity("alice", "{noop}changed", "ROLE_ADMIN");
+        when(userAuthEntityRepository.findByUsername("alice")).thenReturn(Optional.of(before));
+
+        authService.loadUserByUsername("alice");
+        assertEquals("{noop}secret", authService.loadUserByUsername("alice").getPassword());
+        verify(userAuthEntityRepository, times(1)).findByUsername("alice");
+
+        when(userAuthEntityRepository.save(after)).thenReturn(after);
+        when(userAuthEntityRepository.findByUsername("alice")).thenReturn(Optional.of(after));
+        authService.save(after);
+
+        assertEquals("{noop}changed", authService.loadUserByUsername("alice").getPassword());
+        verify(userAuthEntityRepository, times(2)).findByUsername("alice");
+    }
+}
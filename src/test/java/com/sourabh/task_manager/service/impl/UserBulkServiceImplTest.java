@@ -0,0 +1,113 @@
+package com.sourabh.task_manager.service.impl;
+
+import com.sourabh.task_manager.cache.UserCacheInvalidator;
+import com.sourabh.task_manager.config.BulkOperationProperties;
+import com.sourabh.task_manager.dto.request.BulkUserUpdateDTO;
+import com.sourabh.task_manager.dto.request.UserFilterDTO;
+import com.sourabh.task_manager.dto.request.UserRegistrationDTO;
+import com.sourabh.task_manager.dto.response.BulkRowResultDTO;
+import com.sourabh.task_manager.entity.UserEntity;
+import com.sourabh.task_manager.enums.BulkRowStatus;
+import com.sourabh.task_manager.mapper.UserMapper;
+import com.sourabh.task_manager.repository.UserBatchRepository;
+import com.sourabh.task_manager.repository.UserRepository;
+import com.sourabh.task_manager.search.UserAvailabilityFilter;
+import com.sourabh.task_manager.search.UserSearchIndex;
+import com.sourabh.task_manager.security.PasswordHashingExecutor;
+import com.sourabh.task_manager.service.UserStatsService;
+import com.sourabh.task_manager.util.InvalidRequestException;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserBulkServiceImplTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserBatchRepository userBatchRepository = mock(UserBatchRepository.class);
+    private final BulkOperationProperties properties = new BulkOperationProperties();
+    private final PasswordHashingExecutor passwordHashingExecutor = mock(PasswordHashingExecutor.class);
+    private final UserMapper userMapper = mock(UserMapper.class);
+    private final UserBulkServiceImpl bulkService = new UserBulkServiceImpl(userRepository, userBatchRepository,
+            passwordHashingExecutor, userMapper, mock(Validator.class),
+            mock(UserSearchIndex.class), mock(UserStatsService.class), mock(UserAvailabilityFilter.class),
+            mock(UserCacheInvalidator.class), properties);
+
+    @Test
+    void rejectsFilterMatchingMoreThanMaxRows() {
+        properties.setMaxRows(2);
+        Map<Long, String> matches = new LinkedHashMap<>();
+        for (long id = 1; id <= 3; id++) {
+            matches.put(id, "user" + id);
+        }
+        when(userBatchRepository.findUsernamesById(any(), eq(3))).thenReturn(matches);
+        UserFilterDTO filter = new UserFilterDTO();
+        filter.setIsActive(true);
+        BulkUserUpdateDTO request = new BulkUserUpdateDTO();
+        request.setFilter(filter);
+
+        assertThrows(InvalidRequestException.class, () -> bulkService.deactivateUsers(request));
+        verify(userRepository, never()).updateActiveStatusByIdIn(any(), anyBoolean(), any());
+    }
+
+    @Test
+    void rethrowsIntegrityFailuresOtherThanDuplicates() {
+        givenRegistrationsCanBeHashed();
+        DataIntegrityViolationException notNull = new DataIntegrityViolationException("NULL not allowed for column \"FIRST_NAME\"");
+        doThrow(notNull).when(userBatchRepository).insertAll(anyList(), anyInt());
+
+        assertSame(notNull, assertThrows(DataIntegrityViolationException.class,
+                () -> bulkService.registerUsers(List.of(registration("alice")))));
+        verify(userBatchRepository, times(1)).insertAll(anyList(), anyInt());
+    }
+
+    @Test
+    void reportsCreatedRowsThatCannotBeReadBack() {
+        givenRegistrationsCanBeHashed();
+        when(userRepository.findUserDTOsByUsernameIn(any())).thenReturn(List.of());
+
+        BulkRowResultDTO row = bulkService.registerUsers(List.of(registration("alice"))).getResults().get(0);
+
+        assertEquals(BulkRowStatus.CREATED, row.getStatus());
+        assertEquals("alice", row.getUsername());
+        assertNull(row.getUser());
+    }
+
+    private void givenRegistrationsCanBeHashed() {
+        when(passwordHashingExecutor.encodeAll(anyList())).thenAnswer(call -> List.copyOf(call.getArgument(0)));
+        when(userMapper.toEntity(any(UserRegistrationDTO.class))).thenAnswer(call -> {
+            UserRegistrationDTO registration = call.getArgument(0);
+            return new UserEntity(registration.getUsername(), registration.getEmail(),
+                    registration.getPassword(), registration.getFirstName(), registration.getLastName());
+        });
+    }
+
+    private static UserRegistrationDTO registration(String username) {
+        UserRegistrationDTO registration = new UserRegistrationDTO();
+        registration.setUsername(username);
+        registration.setEmail(username + "@example.com");
+        registration.setPassword("password123");
+        registration.setFirstName("First");
+        registration.setLastName("Last");
+        return registration;
+    }
+}
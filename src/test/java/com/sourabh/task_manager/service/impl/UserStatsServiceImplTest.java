@@ -0,0 +1,79 @@
+package com.sourabh.task_manager.service.impl;
+
+import com.sourabh.task_manager.enums.UserRole;
+import com.sourabh.task_manager.repository.UserRepository;
+import com.sourabh.task_manager.repository.projection.RoleActivityCountView;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserStatsServiceImplTest {
+
+    @Test
+    void loadsOnceAndTracksChangesInMemory() {
+        UserRepository repository = mock(UserRepository.class);
+        when(repository.countGroupedByRoleAndActive()).thenReturn(List.of(
+                row(UserRole.USER, true, 5), row(UserRole.USER, false, 3), row(UserRole.ADMIN, true, 1)));
+        UserStatsServiceImpl stats = new UserStatsServiceImpl(repository);
+
+        assertStats(stats.getUserStats(), 9, 6, 1, 0, 8);
+
+        stats.recordCreated(UserRole.USER, true);
+        stats.recordActiveChanged(UserRole.USER, false);
+        stats.recordRoleChanged(UserRole.USER, UserRole.MANAGER, false);
+        stats.recordDeleted(UserRole.ADMIN, true);
+        assertStats(stats.getUserStats(), 9, 5, 0, 1, 8);
+
+        verify(repository, times(1)).countGroupedByRoleAndActive();
+    }
+
+    @Test
+    void reconcileCorrectsDrift() {
+        UserRepository repository = mock(UserRepository.class);
+        when(repository.countGroupedByRoleAndActive())
+                .thenReturn(List.of(row(UserRole.USER, true, 3)))
+                .thenReturn(List.of(row(UserRole.USER, true, 4), row(UserRole.GUEST, false, 1)));
+        UserStatsServiceImpl stats = new UserStatsServiceImpl(repository);
+
+        stats.reconcile();
+        stats.recordDeleted(UserRole.USER, true);
+        stats.reconcile();
+
+        assertStats(stats.getUserStats(), 5, 4, 0, 0, 4);
+    }
+
+    private static void assertStats(Map<String, Object> stats, long total, long active,
+                                    long admins, long managers, long regular) {
+        assertEquals(total, stats.get("totalUsers"));
+        assertEquals(active, stats.get("activeUsers"));
+        assertEquals(admins, stats.get("adminUsers"));
+        assertEquals(managers, stats.get("managerUsers"));
+        assertEquals(regular, stats.get("regularUsers"));
+    }
+
+    private static RoleActivityCountView row(UserRole role, boolean active, long total) {
+        return new RoleActivityCountView() {
+            @Override
+            public UserRole getRole() {
+                return role;
+            }
+
+            @Override
+            public Boolean getActive() {
+                return active;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package com.sourabh.task_manager.util;
+
+import com.sourabh.task_manager.dto.response.UserResponseDTO;
+import com.sourabh.task_manager.enums.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserETagsTest {
+
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2024, 3, 1, 12, 0, 0, 123_456_789);
+
+    @Test
+    void changesWithUpdatedAtAndLastLoginOnly() {
+        String etag = UserETags.of(user(UPDATED, null));
+
+        assertEquals(etag, UserETags.of(user(UPDATED.withNano(123_456_000), null)));
+        assertNotEquals(etag, UserETags.of(user(UPDATED.plusNanos(1_000), null)));
+        assertNotEquals(etag, UserETags.of(user(UPDATED, UPDATED)));
+    }
+
+    @Test
+    void matchesIfNoneMatchLists() {
+        String etag = UserETags.of(user(UPDATED, null));
+
+        assertTrue(UserETags.matches(etag, etag));
+        assertTrue(etag.startsWith("W/\""));
+        assertTrue(UserETags.matches("\"stale\", " + etag, etag));
+        assertTrue(UserETags.matches(etag.substring(2), etag));
+        assertTrue(UserETags.matches("*", etag));
+        assertFalse(UserETags.matches("\"stale\"", etag));
+    }
+
+    private static UserResponseDTO user(LocalDateTime updatedAt, LocalDateTime lastLogin) {
+        return new UserResponseDTO(1L, "alice", "alice@example.com", "Alice", "Smith", null,
+                UserRole.USER, true, true, UPDATED, updatedAt, lastLogin);
+    }
+}